@@ -63,7 +63,7 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
         LoanBookStorage loanBookStorage = new XmlLoanBookStorage(userPrefs.getLoanBookFilePath());
-        storage = new StorageManager(loanBookStorage, userPrefsStorage);
+        storage = new StorageManager(loanBookStorage, userPrefsStorage, config.getLoanBookSaveDelayMillis());
 
         initLogging(config);
 
@@ -186,6 +186,8 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Loan Book ] =============================");
+        // Any error in saving the last changes is shown to the user, so the UI is only stopped afterwards.
+        storage.flushLoanBook();
         ui.stop();
         try {
             storage.saveUserPrefs(userPrefs);
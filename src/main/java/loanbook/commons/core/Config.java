@@ -11,11 +11,13 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_LOAN_BOOK_SAVE_DELAY_MILLIS = 500;
 
     // Config values customizable through config file
     private String appTitle = "Loanbook App";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long loanBookSaveDelayMillis = DEFAULT_LOAN_BOOK_SAVE_DELAY_MILLIS;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +43,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the longest time in milliseconds that a change to the loan book may wait before it is saved,
+     * so that the changes made within that time are saved together.
+     */
+    public long getLoanBookSaveDelayMillis() {
+        return loanBookSaveDelayMillis;
+    }
+
+    public void setLoanBookSaveDelayMillis(long loanBookSaveDelayMillis) {
+        this.loanBookSaveDelayMillis = loanBookSaveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +68,13 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && loanBookSaveDelayMillis == o.loanBookSaveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, loanBookSaveDelayMillis);
     }
 
     @Override
@@ -68,6 +83,7 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nLoan book save delay : " + loanBookSaveDelayMillis + " ms");
         return sb.toString();
     }
 
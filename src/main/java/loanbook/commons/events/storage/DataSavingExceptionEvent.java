@@ -3,13 +3,13 @@ package loanbook.commons.events.storage;
 import loanbook.commons.events.BaseEvent;
 
 /**
- * Indicates an exception during a file saving
+ * Indicates an exception or error during a file saving
  */
 public class DataSavingExceptionEvent extends BaseEvent {
 
-    public final Exception exception;
+    public final Throwable exception;
 
-    public DataSavingExceptionEvent(Exception exception) {
+    public DataSavingExceptionEvent(Throwable exception) {
         this.exception = exception;
     }
 
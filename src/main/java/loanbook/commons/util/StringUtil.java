@@ -65,4 +65,24 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code s} is not empty and consists only of the digits 0 to 9.
+     * This is the same as matching the regex {@code [0-9]+}, without the cost of a regex.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAsciiDigits(String s) {
+        requireNonNull(s);
+
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -5,6 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +16,20 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} reflects over the class to convert and every class it refers to, so one context
+ * is created per class and kept. Marshallers and unmarshallers are not thread-safe, so each thread keeps its own
+ * for each class and reuses them.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> fragmentMarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +51,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +74,74 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = getMarshaller(data.getClass());
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns the JAXB context for {@code classToConvert}, creating it if it has not been created before.
+     *
+     * @throws JAXBException Thrown if the context cannot be created for the class.
+     */
+    public static JAXBContext getContext(Class<?> classToConvert) throws JAXBException {
+        JAXBContext context = contexts.get(classToConvert);
+        if (context == null) {
+            // Contexts are thread-safe, so a race here at worst creates a context which is not kept.
+            JAXBContext newContext = JAXBContext.newInstance(classToConvert);
+            context = contexts.putIfAbsent(classToConvert, newContext);
+            if (context == null) {
+                context = newContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Returns this thread's unmarshaller for {@code classToConvert}, creating it if this thread has none.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> classToConvert) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller um = threadUnmarshallers.get(classToConvert);
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+            threadUnmarshallers.put(classToConvert, um);
+        }
+        return um;
+    }
+
+    /**
+     * Returns this thread's marshaller for {@code classToConvert}, which writes formatted output,
+     * creating it if this thread has none.
+     */
+    private static Marshaller getMarshaller(Class<?> classToConvert) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller m = threadMarshallers.get(classToConvert);
+        if (m == null) {
+            m = getContext(classToConvert).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(classToConvert, m);
+        }
+        return m;
+    }
+
+    /**
+     * Returns this thread's marshaller for the classes known to the context of {@code classToConvert}, which writes
+     * formatted output without an XML declaration, so that each element can be written into a larger document.
+     * The marshaller is created if this thread has none, and must not be used by two writes at once.
+     *
+     * @throws JAXBException Thrown if the marshaller cannot be created for the class.
+     */
+    public static Marshaller getFragmentMarshaller(Class<?> classToConvert) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = fragmentMarshallers.get();
+        Marshaller m = threadMarshallers.get(classToConvert);
+        if (m == null) {
+            m = getContext(classToConvert).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            threadMarshallers.put(classToConvert, m);
+        }
+        return m;
+    }
+
 }
@@ -28,4 +28,12 @@ public interface Logic {
 
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
+
+    /**
+     * Completes {@code partialBikeName} to the longest common prefix of the names of all bikes
+     * whose names start with it, ignoring case.
+     * @param partialBikeName The partially typed name of a bike.
+     * @return The completed bike name, or {@code partialBikeName} if no bike name starts with it.
+     */
+    String completeBikeName(String partialBikeName);
 }
@@ -1,5 +1,6 @@
 package loanbook.logic;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -67,4 +68,30 @@ public class LogicManager extends ComponentManager implements Logic {
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    @Override
+    public String completeBikeName(String partialBikeName) {
+        List<Bike> matchingBikes = model.getBikesWithNamePrefix(partialBikeName);
+        if (matchingBikes.isEmpty()) {
+            return partialBikeName;
+        }
+
+        String completion = matchingBikes.get(0).getName().value;
+        for (Bike bike : matchingBikes) {
+            completion = commonPrefixIgnoreCase(completion, bike.getName().value);
+        }
+        return completion;
+    }
+
+    /**
+     * Returns the longest prefix of {@code first} that is also a prefix of {@code second}, ignoring case.
+     */
+    private static String commonPrefixIgnoreCase(String first, String second) {
+        int length = 0;
+        int maxLength = Math.min(first.length(), second.length());
+        while (length < maxLength && first.regionMatches(true, length, second, length, 1)) {
+            length++;
+        }
+        return first.substring(0, length);
+    }
 }
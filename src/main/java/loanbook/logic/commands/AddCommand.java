@@ -71,22 +71,23 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_BIKE_NOT_FOUND);
         }
 
-        LoanId actualId = model.getNextAvailableId();
-        Loan actualLoan = new Loan(actualId,
-                toAdd.getName(),
-                toAdd.getNric(),
-                toAdd.getPhone(),
-                toAdd.getEmail(),
-                actualBike.get(),
-                toAdd.getLoanRate(),
-                toAdd.getLoanStartTime(),
-                toAdd.getLoanEndTime(),
-                toAdd.getLoanStatus(),
-                toAdd.getTags());
-
-        model.addLoan(actualLoan);
-        model.commitLoanBook();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, actualLoan));
+        Loan addedLoan = model.runTransaction(() -> {
+            LoanId actualId = model.getNextAvailableId();
+            Loan actualLoan = new Loan(actualId,
+                    toAdd.getName(),
+                    toAdd.getNric(),
+                    toAdd.getPhone(),
+                    toAdd.getEmail(),
+                    actualBike.get(),
+                    toAdd.getLoanRate(),
+                    toAdd.getLoanStartTime(),
+                    toAdd.getLoanEndTime(),
+                    toAdd.getLoanStatus(),
+                    toAdd.getTags());
+            model.addLoan(actualLoan);
+            return actualLoan;
+        });
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addedLoan));
     }
 
     @Override
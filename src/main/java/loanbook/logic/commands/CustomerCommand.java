@@ -0,0 +1,76 @@
+package loanbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static loanbook.logic.parser.CliSyntax.PREFIX_NRIC;
+
+import java.util.List;
+
+import loanbook.logic.CommandHistory;
+import loanbook.logic.commands.exceptions.CommandException;
+import loanbook.model.Model;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanStatus;
+import loanbook.model.loan.Money;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
+
+/**
+ * Lists all loans made by the customer with the given NRIC, and summarizes them.
+ */
+public class CustomerCommand extends Command {
+
+    public static final String COMMAND_WORD = "customer";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all loans made by the customer with the given "
+            + "NRIC, together with their ongoing loans and how much they have spent in total.\n"
+            + "Parameters: " + PREFIX_NRIC + "NRIC\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NRIC + "T0248272F";
+
+    public static final String MESSAGE_CUSTOMER_NOT_FOUND = "No loans by a customer with that NRIC exist within "
+            + "the loan book.";
+    public static final String MESSAGE_CUSTOMER_SUMMARY = "Customer %1$s has made %2$d loan(s), "
+            + "of which %3$d are ongoing.\n"
+            + "Their lifetime spend is $%4$s.";
+    public static final String MESSAGE_ONGOING_LOAN = "\nOngoing: Loan ID %1$s, %2$s, since %3$s";
+
+    private final Nric nric;
+
+    public CustomerCommand(Nric nric) {
+        requireNonNull(nric);
+        this.nric = nric;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        List<Loan> customerLoans = model.getLoansOfCustomer(nric);
+        if (customerLoans.isEmpty()) {
+            throw new CommandException(MESSAGE_CUSTOMER_NOT_FOUND);
+        }
+
+        Summary summary = new Summary();
+        StringBuilder ongoingLoans = new StringBuilder();
+        for (Loan loan : customerLoans) {
+            summary.addLoan(loan);
+            if (loan.getLoanStatus() == LoanStatus.ONGOING) {
+                ongoingLoans.append(String.format(MESSAGE_ONGOING_LOAN,
+                        loan.getLoanId(), loan.getBike().getName(), loan.getLoanStartTime()));
+            }
+        }
+
+        model.updateFilteredLoanList(loan -> loan.getNric().equals(nric));
+        return new CommandResult(String.format(MESSAGE_CUSTOMER_SUMMARY,
+                nric.getCensored(),
+                summary.getNumLoans(),
+                summary.getNumLoansInProgress(),
+                Money.format(summary.getTotalRevenueCents())) + ongoingLoans);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CustomerCommand // instanceof handles nulls
+                && nric.equals(((CustomerCommand) other).nric)); // state check
+    }
+}
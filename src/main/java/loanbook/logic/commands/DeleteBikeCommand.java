@@ -21,12 +21,13 @@ public class DeleteBikeCommand extends PasswordProtectedCommand {
     public static final String COMMAND_WORD = "deletebike";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-        + ": Deletes the bike with the given name.\n"
+        + ": Deletes the bike with the given name. The bike must not be on an ongoing loan.\n"
         + "Requires a password for verification.\n"
         + "Parameters: " + PREFIX_NAME + "NAME " + PREFIX_PASSWORD + "PASSWORD\n"
         + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "Bike001 " + PREFIX_PASSWORD + "a12345";
 
     public static final String MESSAGE_DELETE_BIKE_SUCCESS = "Deleted Bike: %1$s";
+    public static final String MESSAGE_BIKE_ON_LOAN = "This bike cannot be deleted as it has %1$d ongoing loan(s).";
 
     private final Name bikeName;
     private final String targetPassword;
@@ -47,6 +48,11 @@ public class DeleteBikeCommand extends PasswordProtectedCommand {
             throw new CommandException(MESSAGE_BIKE_NOT_FOUND);
         }
 
+        int ongoingLoanCount = model.getOngoingLoansOfBike(actualBike.get()).size();
+        if (ongoingLoanCount > 0) {
+            throw new CommandException(String.format(MESSAGE_BIKE_ON_LOAN, ongoingLoanCount));
+        }
+
         model.deleteBike(actualBike.get());
         model.commitLoanBook();
         return new CommandResult(String.format(MESSAGE_DELETE_BIKE_SUCCESS, actualBike.get()));
@@ -1,14 +1,21 @@
 package loanbook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static loanbook.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
+import static loanbook.logic.parser.CliSyntax.PREFIX_BIKE;
+import static loanbook.logic.parser.CliSyntax.PREFIX_NRIC;
+import static loanbook.logic.parser.CliSyntax.PREFIX_TAG;
 
 import loanbook.commons.core.Messages;
 import loanbook.logic.CommandHistory;
 import loanbook.model.Model;
 import loanbook.model.loan.NameContainsKeywordsPredicate;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.NameQuery;
 
 /**
- * Finds and lists all loans in loan book whose name contains any of the argument keywords.
+ * Finds and lists all loans in loan book whose name contains any of the argument keywords,
+ * and which match all of the other fields given.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -16,20 +23,41 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all loans whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords (case-insensitive), and which have all of the other specified fields, "
+            + "and displays them as a list with index numbers.\n"
+            + "Shows how the loans would be found instead if " + KEYWORD_EXPLAIN + " is specified.\n"
+            + "Parameters: [" + KEYWORD_EXPLAIN + "] [KEYWORD]... "
+            + "[" + PREFIX_NRIC + "NRIC] "
+            + "[" + PREFIX_BIKE + "BIKE] "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "At least one keyword or field must be specified.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie " + PREFIX_BIKE + "Bike001";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final LoanQuery query;
+    private final boolean isExplain;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new NameQuery(predicate), false);
+    }
+
+    /**
+     * Creates a FindCommand to list the loans which satisfy {@code query},
+     * or to only show how they would be found if {@code isExplain} is true.
+     */
+    public FindCommand(LoanQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredLoanList(predicate.forLoans());
+        if (isExplain) {
+            return new CommandResult(model.planLoanQuery(query).toString());
+        }
+
+        model.updateFilteredLoanList(query);
         return new CommandResult(
                 String.format(Messages.MESSAGE_LOANS_LISTED_OVERVIEW, model.getFilteredLoanList().size()));
     }
@@ -38,6 +66,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && query.equals(((FindCommand) other).query)
+                && isExplain == ((FindCommand) other).isExplain); // state check
     }
 }
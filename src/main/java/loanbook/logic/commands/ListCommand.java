@@ -1,28 +1,68 @@
 package loanbook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static loanbook.model.Model.PREDICATE_SHOW_ALL_LOANS;
+import static loanbook.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
+
+import java.util.Optional;
 
 import loanbook.commons.core.EventsCenter;
 import loanbook.commons.events.ui.LoanListShowEvent;
 import loanbook.logic.CommandHistory;
 import loanbook.model.Model;
+import loanbook.model.loan.LoanStatus;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.StatusQuery;
 
 /**
- * Lists all loans in the loan book to the user.
+ * Lists all loans in the loan book to the user, or only the loans with a given status.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all loans, or only the loans with the "
+            + "specified status.\n"
+            + "Shows how the loans would be found instead if " + KEYWORD_EXPLAIN + " is specified.\n"
+            + "Parameters: [" + KEYWORD_EXPLAIN + "] [ongoing|returned]\n"
+            + "Example: " + COMMAND_WORD + " ongoing";
+
     public static final String MESSAGE_SUCCESS = "Listed all loans";
+    public static final String MESSAGE_STATUS_SUCCESS = "Listed all loans with status: %s";
+
+    private final LoanStatus status;
+    private final boolean isExplain;
+
+    public ListCommand() {
+        this(null, false);
+    }
 
+    /**
+     * Creates a ListCommand to list the loans with {@code status}, or all loans if {@code status} is null,
+     * or to only show how they would be found if {@code isExplain} is true.
+     */
+    public ListCommand(LoanStatus status, boolean isExplain) {
+        this.status = status;
+        this.isExplain = isExplain;
+    }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredLoanList(PREDICATE_SHOW_ALL_LOANS);
+        LoanQuery query = status == null ? LoanQuery.all() : new StatusQuery(status);
+        if (isExplain) {
+            return new CommandResult(model.planLoanQuery(query).toString());
+        }
+
+        model.updateFilteredLoanList(query);
         EventsCenter.getInstance().post(new LoanListShowEvent());
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(status == null ? MESSAGE_SUCCESS : String.format(MESSAGE_STATUS_SUCCESS, status));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListCommand // instanceof handles nulls
+                && Optional.ofNullable(status).equals(Optional.ofNullable(((ListCommand) other).status))
+                && isExplain == ((ListCommand) other).isExplain); // state check
     }
 }
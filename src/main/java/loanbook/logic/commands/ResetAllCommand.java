@@ -31,10 +31,11 @@ public class ResetAllCommand extends PasswordProtectedCommand {
         requireNonNull(model);
         assertCorrectPassword(model);
 
-        model.resetLoans();
-        model.resetBikes();
-        model.resetId();
-        model.commitLoanBook();
+        model.runTransaction(() -> {
+            model.resetLoans();
+            model.resetBikes();
+            model.resetId();
+        });
         return new CommandResult(MESSAGE_RESET_ALL_SUCCESS);
     }
 
@@ -31,9 +31,10 @@ public class ResetLoansCommand extends PasswordProtectedCommand {
         requireNonNull(model);
         assertCorrectPassword(model);
 
-        model.resetLoans();
-        model.resetId();
-        model.commitLoanBook();
+        model.runTransaction(() -> {
+            model.resetLoans();
+            model.resetId();
+        });
         return new CommandResult(MESSAGE_RESET_LOANS_SUCCESS);
     }
 
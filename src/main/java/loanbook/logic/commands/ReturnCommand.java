@@ -13,6 +13,7 @@ import loanbook.model.Model;
 import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanStatus;
 import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Money;
 
 /**
  * Adds a loan to the loan book.
@@ -27,7 +28,7 @@ public class ReturnCommand extends Command {
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_INDEX + "1";
 
-    public static final String MESSAGE_SUCCESS = "Loan Returned: %1$s\nThe customer should pay $%2$.2f.";
+    public static final String MESSAGE_SUCCESS = "Loan Returned: %1$s\nThe customer should pay $%2$s.";
     public static final String MESSAGE_LOAN_NOT_ONGOING = "This loan is not ongoing";
 
     private final Index index;
@@ -56,11 +57,11 @@ public class ReturnCommand extends Command {
         }
 
         Loan editedLoan = createReturnedLoan(loanToReturn);
-        double cost = editedLoan.calculateCost();
+        long costCents = editedLoan.calculateCostCents();
 
         model.updateLoan(loanToReturn, editedLoan);
         model.commitLoanBook();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, editedLoan, cost));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, editedLoan, Money.format(costCents)));
     }
 
     /**
@@ -1,60 +1,104 @@
 package loanbook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-
-import java.util.List;
+import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
+import static loanbook.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 
 import loanbook.commons.core.EventsCenter;
 import loanbook.commons.events.ui.LoanListShowEvent;
 import loanbook.logic.CommandHistory;
 import loanbook.logic.commands.exceptions.CommandException;
 import loanbook.model.Model;
-import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanTime;
+import loanbook.model.query.QueryPlan;
+import loanbook.model.query.TimeRangeQuery;
+import loanbook.model.query.TimeRangeQuery.TimeOfLoan;
 
 /**
- * Finds and lists all loans in loan book whose loan start time is within the provided range.
+ * Finds and lists all loans in loan book whose loan start time (or end time, for returned loans)
+ * is within the provided range.
  */
 public class SearchCommand extends Command {
 
     public static final String COMMAND_WORD = "search";
+    public static final String KEYWORD_ENDED = "ended";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Search for loans between STARTDATE and ENDDATE.\n"
-            + "Parameters: STARTDATE ENDDATE\n"
+            + "Searches for loans that ended within the range instead if " + KEYWORD_ENDED + " is specified.\n"
+            + "Shows how the loans would be found instead if " + KEYWORD_EXPLAIN + " is specified.\n"
+            + "Parameters: [" + KEYWORD_EXPLAIN + "] [" + KEYWORD_ENDED + "] STARTDATE ENDDATE\n"
             + "Example: " + COMMAND_WORD + " 2018-01-01 2018-12-31";
 
     public static final String MESSAGE_SUCCESS = "Showing all loans that was created between: %s and %s.";
     public static final String MESSAGE_FAILURE = "There are no loans that was created between: %s and %s.";
+    public static final String MESSAGE_ENDED_SUCCESS = "Showing all loans that ended between: %s and %s.";
+    public static final String MESSAGE_ENDED_FAILURE = "There are no loans that ended between: %s and %s.";
+
+    /**
+     * The time of a loan which is searched for.
+     */
+    public enum SearchType {
+        STARTED, ENDED
+    }
 
     private final LoanTime startDate;
     private final LoanTime endDate;
+    private final SearchType searchType;
+    private final boolean isExplain;
+    private final TimeRangeQuery query;
 
     /**
      * Creates an SearchCommand to check loans that was created between {@code startDate} and {@code endDate}.
      */
     public SearchCommand(LoanTime startDate, LoanTime endDate) {
+        this(startDate, endDate, SearchType.STARTED);
+    }
+
+    /**
+     * Creates an SearchCommand to check loans that were created or ended, according to {@code searchType},
+     * between {@code startDate} and {@code endDate}.
+     */
+    public SearchCommand(LoanTime startDate, LoanTime endDate, SearchType searchType) {
+        this(startDate, endDate, searchType, false);
+    }
+
+    /**
+     * Creates an SearchCommand to check loans that were created or ended, according to {@code searchType},
+     * between {@code startDate} and {@code endDate}, or to only show how they would be found if {@code isExplain}
+     * is true.
+     */
+    public SearchCommand(LoanTime startDate, LoanTime endDate, SearchType searchType, boolean isExplain) {
         // TODO ALLOW FOR NULL STARTDATE AND ENDDATE.
-        requireNonNull(startDate);
-        requireNonNull(endDate);
+        requireAllNonNull(startDate, endDate, searchType);
         this.startDate = startDate;
         this.endDate = endDate;
+        this.searchType = searchType;
+        this.isExplain = isExplain;
+        this.query = new TimeRangeQuery(
+                searchType == SearchType.ENDED ? TimeOfLoan.ENDED : TimeOfLoan.STARTED, startDate, endDate);
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredLoanList(loan -> loan.getLoanStartTime().isBetweenRange(startDate, endDate));
-
-        List<Loan> filteredLoanList = model.getFilteredLoanList();
+        if (isExplain) {
+            return new CommandResult(model.planLoanQuery(query).toString());
+        }
 
-        if (filteredLoanList.size() == 0) {
-            throw new CommandException(String.format(MESSAGE_FAILURE, startDate, endDate));
+        // The query is always looked up in a time index, which gives exactly the matching loans.
+        QueryPlan plan = model.planLoanQuery(query);
+        if (plan.getCandidates().isEmpty()) {
+            String failureMessage = searchType == SearchType.ENDED ? MESSAGE_ENDED_FAILURE : MESSAGE_FAILURE;
+            throw new CommandException(String.format(failureMessage, startDate, endDate));
         }
 
+        model.updateFilteredLoanList(plan);
+
         EventsCenter.getInstance().post(new LoanListShowEvent());
-        return new CommandResult(String.format(MESSAGE_SUCCESS, startDate, endDate));
+        String successMessage = searchType == SearchType.ENDED ? MESSAGE_ENDED_SUCCESS : MESSAGE_SUCCESS;
+        return new CommandResult(String.format(successMessage, startDate, endDate));
     }
 
     @Override
@@ -62,6 +106,8 @@ public class SearchCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof SearchCommand // instanceof handles nulls
                 && startDate.equals(((SearchCommand) other).startDate)
-                && endDate.equals(((SearchCommand) other).endDate));
+                && endDate.equals(((SearchCommand) other).endDate)
+                && searchType == ((SearchCommand) other).searchType
+                && isExplain == ((SearchCommand) other).isExplain);
     }
 }
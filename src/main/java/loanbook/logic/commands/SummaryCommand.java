@@ -1,13 +1,10 @@
 package loanbook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static loanbook.model.Model.PREDICATE_SHOW_ALL_LOANS;
-
-import java.util.List;
 
 import loanbook.logic.CommandHistory;
 import loanbook.model.Model;
-import loanbook.model.loan.Loan;
+import loanbook.model.loan.Summary;
 
 /**
  * Terminates the program.
@@ -21,16 +18,7 @@ public class SummaryCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredLoanList(PREDICATE_SHOW_ALL_LOANS);
-
-        Summary summary = new Summary();
-
-        List<Loan> lastShownList = model.getFilteredLoanList();
-
-        for (Loan loan : lastShownList) {
-            summary.addLoan(loan);
-        }
-
+        Summary summary = model.getLoanSummary();
         return new CommandResult(String.format(MESSAGE_SUMMARY_ACKNOWLEDGEMENT, summary.getSummary()));
     }
 }
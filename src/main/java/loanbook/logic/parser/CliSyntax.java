@@ -18,4 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_ID = new Prefix("id/");
     public static final Prefix PREFIX_EMAILPW = new Prefix("pw/");
+
+    /* Keyword definitions */
+    public static final String KEYWORD_EXPLAIN = "explain";
 }
@@ -0,0 +1,32 @@
+package loanbook.logic.parser;
+
+import static loanbook.logic.parser.CliSyntax.PREFIX_NRIC;
+
+import java.util.List;
+
+import loanbook.logic.commands.CustomerCommand;
+import loanbook.logic.parser.exceptions.ParseException;
+import loanbook.model.loan.Nric;
+
+/**
+ * Parses input arguments and creates a new CustomerCommand object.
+ */
+public class CustomerCommandParser extends ArgumentParser<CustomerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CustomerCommand
+     * and returns a CustomerCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public CustomerCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = getArgumentMultimap(args,
+            List.of(PREFIX_NRIC),
+            List.of(),
+            CustomerCommand.MESSAGE_USAGE);
+
+        Nric nric = ParserUtil.parseNric(argMultimap.getValue(PREFIX_NRIC).get());
+
+        return new CustomerCommand(nric);
+    }
+
+}
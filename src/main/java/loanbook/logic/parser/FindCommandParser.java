@@ -1,12 +1,25 @@
 package loanbook.logic.parser;
 
 import static loanbook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loanbook.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
+import static loanbook.logic.parser.CliSyntax.PREFIX_BIKE;
+import static loanbook.logic.parser.CliSyntax.PREFIX_NRIC;
+import static loanbook.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import loanbook.logic.commands.FindCommand;
 import loanbook.logic.parser.exceptions.ParseException;
 import loanbook.model.loan.NameContainsKeywordsPredicate;
+import loanbook.model.query.BikeQuery;
+import loanbook.model.query.CustomerQuery;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.NameQuery;
+import loanbook.model.query.TagQuery;
+import loanbook.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object.
@@ -19,15 +32,44 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NRIC, PREFIX_BIKE, PREFIX_TAG);
+
+        List<String> nameKeywords = new ArrayList<>();
+        String trimmedPreamble = argMultimap.getPreamble().trim();
+        if (!trimmedPreamble.isEmpty()) {
+            nameKeywords.addAll(Arrays.asList(trimmedPreamble.split("\\s+")));
+        }
+
+        boolean isExplain = !nameKeywords.isEmpty() && nameKeywords.get(0).equalsIgnoreCase(KEYWORD_EXPLAIN);
+        if (isExplain) {
+            nameKeywords.remove(0);
+        }
+
+        List<LoanQuery> queries = new ArrayList<>();
+        if (!nameKeywords.isEmpty()) {
+            queries.add(new NameQuery(new NameContainsKeywordsPredicate(nameKeywords)));
+        }
+
+        Optional<String> nric = argMultimap.getValue(PREFIX_NRIC);
+        if (nric.isPresent()) {
+            queries.add(new CustomerQuery(ParserUtil.parseNric(nric.get())));
+        }
+
+        Optional<String> bikeName = argMultimap.getValue(PREFIX_BIKE);
+        if (bikeName.isPresent()) {
+            queries.add(new BikeQuery(ParserUtil.parseBike(bikeName.get()).getName()));
+        }
+
+        for (Tag tag : ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG))) {
+            queries.add(new TagQuery(tag));
+        }
+
+        if (queries.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(LoanQuery.allOf(queries), isExplain);
     }
 
 }
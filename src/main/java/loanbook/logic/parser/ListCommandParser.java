@@ -0,0 +1,34 @@
+package loanbook.logic.parser;
+
+import static loanbook.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
+
+import loanbook.logic.commands.ListCommand;
+import loanbook.model.loan.LoanStatus;
+
+/**
+ * Parses input arguments and creates a new ListCommand object.
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Words other than {@code KEYWORD_EXPLAIN} and the ongoing and returned statuses are ignored,
+     * so that any other arguments list all loans as before.
+     */
+    public ListCommand parse(String args) {
+        LoanStatus status = null;
+        boolean isExplain = false;
+        for (String word : args.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase(KEYWORD_EXPLAIN)) {
+                isExplain = true;
+            } else if (word.equalsIgnoreCase(LoanStatus.ONGOING.name())) {
+                status = LoanStatus.ONGOING;
+            } else if (word.equalsIgnoreCase(LoanStatus.RETURNED.name())) {
+                status = LoanStatus.RETURNED;
+            }
+        }
+        return new ListCommand(status, isExplain);
+    }
+
+}
@@ -10,6 +10,7 @@ import loanbook.logic.commands.AddBikeCommand;
 import loanbook.logic.commands.AddCommand;
 import loanbook.logic.commands.CheckEmailCommand;
 import loanbook.logic.commands.Command;
+import loanbook.logic.commands.CustomerCommand;
 import loanbook.logic.commands.DeleteBikeCommand;
 import loanbook.logic.commands.DeleteCommand;
 import loanbook.logic.commands.EditBikeCommand;
@@ -99,6 +100,9 @@ public class LoanBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case CustomerCommand.COMMAND_WORD:
+            return new CustomerCommandParser().parse(arguments);
+
         case SetPasswordCommand.COMMAND_WORD:
             return new SetPasswordCommandParser().parse(arguments);
 
@@ -112,7 +116,7 @@ public class LoanBookParser {
             return new ListBikesCommand();
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
 
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
@@ -3,8 +3,12 @@ package loanbook.logic.parser;
 import static loanbook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static loanbook.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
 import static loanbook.commons.core.Messages.MESSAGE_INVALID_DATE_RANGE;
+import static loanbook.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
+
+import java.util.Arrays;
 
 import loanbook.logic.commands.SearchCommand;
+import loanbook.logic.commands.SearchCommand.SearchType;
 import loanbook.logic.parser.exceptions.ParseException;
 import loanbook.model.loan.LoanTime;
 
@@ -20,6 +24,18 @@ public class SearchCommandParser implements Parser<SearchCommand> {
     public SearchCommand parse(String args) throws ParseException {
         String[] parts = args.trim().split(" ");
 
+        boolean isExplain = false;
+        if (parts.length > 2 && parts[0].equalsIgnoreCase(KEYWORD_EXPLAIN)) {
+            isExplain = true;
+            parts = Arrays.copyOfRange(parts, 1, parts.length);
+        }
+
+        SearchType searchType = SearchType.STARTED;
+        if (parts.length == 3 && parts[0].equalsIgnoreCase(SearchCommand.KEYWORD_ENDED)) {
+            searchType = SearchType.ENDED;
+            parts = Arrays.copyOfRange(parts, 1, parts.length);
+        }
+
         if (parts.length != 2) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
         }
@@ -38,6 +54,6 @@ public class SearchCommandParser implements Parser<SearchCommand> {
             throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
         }
 
-        return new SearchCommand(startLoanTime, endLoanTime);
+        return new SearchCommand(startLoanTime, endLoanTime, searchType, isExplain);
     }
 }
@@ -0,0 +1,174 @@
+package loanbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import javafx.collections.ListChangeListener;
+
+import loanbook.commons.util.CollectionUtil;
+
+/**
+ * The changes made to a list between two of its states, recorded as a sequence of edits which each replace
+ * a range of items with other items.
+ * A {@code ListDelta} can be applied to the earlier state of the list to obtain the later state, or its inverse
+ * applied to the later state to obtain the earlier state, so only the changed items need to be kept.
+ *
+ * Each edit only covers the items which were actually replaced, even if the change that was recorded replaced
+ * more of the list, e.g. when the whole list was set to a list with one different item. Applying a delta
+ * therefore makes the smallest changes to the list, which its listeners see as changes to only those items.
+ *
+ * @param <T> The type of item in the list.
+ */
+public class ListDelta<T> {
+
+    private final List<Edit<T>> edits = new ArrayList<>();
+
+    /**
+     * Records the changes described by {@code change}, which are made after those already recorded.
+     */
+    public void record(ListChangeListener.Change<? extends T> change) {
+        requireNonNull(change);
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // A permutation moves every item in its range, so record it as a replacement of that range.
+                int from = change.getFrom();
+                List<T> permutedItems = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                List<T> originalItems = new ArrayList<>(permutedItems);
+                for (int i = from; i < change.getTo(); i++) {
+                    originalItems.set(i - from, permutedItems.get(change.getPermutation(i) - from));
+                }
+                edits.add(new Edit<>(from, originalItems, permutedItems));
+            } else {
+                recordEdit(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Records the replacement of {@code removedItems} starting at {@code fromIndex} with {@code addedItems},
+     * leaving out the items at the start and end of the replacement which were replaced by themselves.
+     * Nothing is recorded if every item was replaced by itself.
+     */
+    private void recordEdit(int fromIndex, List<? extends T> removedItems, List<? extends T> addedItems) {
+        int maxUnchangedCount = Math.min(removedItems.size(), addedItems.size());
+        int unchangedPrefixLength = 0;
+        while (unchangedPrefixLength < maxUnchangedCount
+                && removedItems.get(unchangedPrefixLength) == addedItems.get(unchangedPrefixLength)) {
+            unchangedPrefixLength++;
+        }
+
+        int unchangedSuffixLength = 0;
+        while (unchangedPrefixLength + unchangedSuffixLength < maxUnchangedCount
+                && removedItems.get(removedItems.size() - 1 - unchangedSuffixLength)
+                        == addedItems.get(addedItems.size() - 1 - unchangedSuffixLength)) {
+            unchangedSuffixLength++;
+        }
+
+        // Items are compared by identity rather than equality, as equal items may still differ in fields which
+        // are left out of their equality, and replacing those items must still be undone.
+        int unchangedLength = unchangedPrefixLength + unchangedSuffixLength;
+        if (unchangedLength == removedItems.size() && unchangedLength == addedItems.size()) {
+            // Every item was replaced by itself, so the list did not change.
+            return;
+        }
+
+        edits.add(new Edit<>(fromIndex + unchangedPrefixLength,
+                removedItems.subList(unchangedPrefixLength, removedItems.size() - unchangedSuffixLength),
+                addedItems.subList(unchangedPrefixLength, addedItems.size() - unchangedSuffixLength)));
+    }
+
+    /**
+     * Returns true if no changes have been recorded.
+     */
+    public boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Applies the recorded changes to the earlier state of a list, using {@code replacement} to edit it.
+     */
+    public void apply(RangeReplacement<T> replacement) {
+        for (Edit<T> edit : edits) {
+            replacement.replace(edit.fromIndex, edit.fromIndex + edit.removedItems.size(), edit.addedItems);
+        }
+    }
+
+    /**
+     * Reverts the recorded changes from the later state of a list, using {@code replacement} to edit it.
+     */
+    public void applyInverse(RangeReplacement<T> replacement) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            Edit<T> edit = edits.get(i);
+            replacement.replace(edit.fromIndex, edit.fromIndex + edit.addedItems.size(), edit.removedItems);
+        }
+    }
+
+    /**
+     * Returns true if both deltas make the same edits, comparing the items in the edits using {@code predicate}.
+     */
+    public boolean testByItem(ListDelta<T> other, BiPredicate<T, T> predicate) {
+        return CollectionUtil.testByElement(edits, other.edits, (edit, otherEdit) ->
+                edit.fromIndex == otherEdit.fromIndex
+                        && CollectionUtil.testByElement(edit.removedItems, otherEdit.removedItems, predicate)
+                        && CollectionUtil.testByElement(edit.addedItems, otherEdit.addedItems, predicate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListDelta // instanceof handles nulls
+                && edits.equals(((ListDelta) other).edits));
+    }
+
+    @Override
+    public int hashCode() {
+        return edits.hashCode();
+    }
+
+    /**
+     * Replaces the items of a list from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+     * with {@code items}.
+     */
+    @FunctionalInterface
+    public interface RangeReplacement<T> {
+        void replace(int fromIndex, int toIndex, List<T> items);
+    }
+
+    /**
+     * A replacement of the items {@code removedItems} starting at {@code fromIndex} with {@code addedItems}.
+     */
+    private static class Edit<T> {
+        private final int fromIndex;
+        private final List<T> removedItems;
+        private final List<T> addedItems;
+
+        Edit(int fromIndex, List<? extends T> removedItems, List<? extends T> addedItems) {
+            this.fromIndex = fromIndex;
+            this.removedItems = new ArrayList<>(removedItems);
+            this.addedItems = new ArrayList<>(addedItems);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Edit)) {
+                return false;
+            }
+            Edit<?> otherEdit = (Edit<?>) other;
+            return fromIndex == otherEdit.fromIndex
+                    && removedItems.equals(otherEdit.removedItems)
+                    && addedItems.equals(otherEdit.addedItems);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fromIndex, removedItems, addedItems);
+        }
+    }
+}
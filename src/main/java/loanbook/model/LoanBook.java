@@ -4,6 +4,8 @@ import static java.util.Objects.hash;
 import static java.util.Objects.requireNonNull;
 import static loanbook.commons.util.CollectionUtil.testByElement;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +14,12 @@ import javafx.collections.ObservableList;
 import loanbook.model.bike.Bike;
 import loanbook.model.bike.UniqueBikeList;
 import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanColumns;
 import loanbook.model.loan.LoanId;
 import loanbook.model.loan.LoanIdManager;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
 import loanbook.model.loan.UniqueLoanList;
 
 /**
@@ -61,6 +67,22 @@ public class LoanBook implements ReadOnlyLoanBook {
         this.loans.setAll(loans);
     }
 
+    /**
+     * Replaces the bikes from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code bikes}.
+     * The resulting bike list must not contain duplicate bikes.
+     */
+    void replaceBikes(int fromIndex, int toIndex, List<Bike> bikes) {
+        this.bikes.replaceRange(fromIndex, toIndex, bikes);
+    }
+
+    /**
+     * Replaces the loans from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code loans}.
+     * The resulting loan list must not contain duplicate loans.
+     */
+    void replaceLoans(int fromIndex, int toIndex, List<Loan> loans) {
+        this.loans.replaceRange(fromIndex, toIndex, loans);
+    }
+
     /**
      * Replaces the state of this LoanBooks's Loan ID Manager with the specified manager.
      */
@@ -70,12 +92,20 @@ public class LoanBook implements ReadOnlyLoanBook {
 
     /**
      * Replaces the existing data of this {@code LoanBook} with {@code newData}.
+     * If {@code newData} is another {@code LoanBook}, its bikes and loans are already known to be unique,
+     * so they are copied without being checked for duplicates again.
      */
     public void replaceData(ReadOnlyLoanBook newData) {
         requireNonNull(newData);
 
-        setBikes(newData.getBikeList());
-        setLoans(newData.getLoanList());
+        if (newData instanceof LoanBook) {
+            LoanBook otherLoanBook = (LoanBook) newData;
+            bikes.setAll(otherLoanBook.bikes);
+            loans.setAll(otherLoanBook.loans);
+        } else {
+            setBikes(newData.getBikeList());
+            setLoans(newData.getLoanList());
+        }
         setLoanIdManager(newData.getLoanIdManager());
     }
 
@@ -96,6 +126,13 @@ public class LoanBook implements ReadOnlyLoanBook {
         return bikes.getBike(bikeName);
     }
 
+    /**
+     * Returns the bikes in the loan book whose names start with {@code prefix}, ignoring case.
+     */
+    public List<Bike> getBikesWithNamePrefix(String prefix) {
+        return bikes.getBikesWithNamePrefix(prefix);
+    }
+
     /**
      * Adds a bike to the loan book.
      * The bike must not already exist in the loan book.
@@ -105,14 +142,24 @@ public class LoanBook implements ReadOnlyLoanBook {
     }
 
     /**
-     * Replaces the given bike {@code target} in the list with {@code editedBike}.
+     * Replaces the given bike {@code target} in the list with {@code editedBike}, and the bike of every loan of
+     * {@code target} with {@code editedBike}, so that the loans keep referring to the bike in the list.
      * {@code target} must exist in the loan book.
      * The bike identity of {@code editedBike} must not be the same as another existing bike in the loan book.
      */
     public void updateBike(Bike target, Bike editedBike) {
         requireNonNull(editedBike);
 
+        List<Loan> loansOfTarget = new ArrayList<>(loans.getOngoingLoansOfBike(target));
+        loansOfTarget.addAll(loans.getReturnedLoansOfBike(target));
+
+        List<Loan> editedLoans = new ArrayList<>(loansOfTarget.size());
+        for (Loan loan : loansOfTarget) {
+            editedLoans.add(new Loan(loan, editedBike));
+        }
+
         bikes.set(target, editedBike);
+        loans.setEach(loansOfTarget, editedLoans);
     }
 
     /**
@@ -218,6 +265,20 @@ public class LoanBook implements ReadOnlyLoanBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns an immutable snapshot of the bikes in the loan book, in constant time.
+     */
+    PersistentList<Bike> getBikeSnapshot() {
+        return bikes.asPersistentList();
+    }
+
+    /**
+     * Returns an immutable snapshot of the loans in the loan book, in constant time.
+     */
+    PersistentList<Loan> getLoanSnapshot() {
+        return loans.asPersistentList();
+    }
+
     @Override
     public ObservableList<Bike> getBikeList() {
         return bikes.asUnmodifiableObservableList();
@@ -228,6 +289,83 @@ public class LoanBook implements ReadOnlyLoanBook {
         return loans.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable view of the ongoing loans in the loan book.
+     */
+    public ObservableList<Loan> getOngoingLoanList() {
+        return loans.asUnmodifiableOngoingLoanList();
+    }
+
+    /**
+     * Returns an unmodifiable view of the returned loans in the loan book.
+     */
+    public ObservableList<Loan> getReturnedLoanList() {
+        return loans.asUnmodifiableReturnedLoanList();
+    }
+
+    @Override
+    public List<Loan> getOngoingLoansOfBike(Bike bike) {
+        return loans.getOngoingLoansOfBike(bike);
+    }
+
+    @Override
+    public List<Loan> getReturnedLoansOfBike(Bike bike) {
+        return loans.getReturnedLoansOfBike(bike);
+    }
+
+    @Override
+    public List<Loan> getLoansOfCustomer(Nric nric) {
+        return loans.getLoansOfCustomer(nric);
+    }
+
+    @Override
+    public List<Loan> getLoansWithNameKeywords(Collection<String> keywords) {
+        return loans.getLoansWithNameKeywords(keywords);
+    }
+
+    @Override
+    public List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        return loans.getLoansStartedBetween(startTime, endTime);
+    }
+
+    @Override
+    public List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        return loans.getLoansEndedBetween(startTime, endTime);
+    }
+
+    /**
+     * Returns an upper bound on the number of loans whose names contain any of {@code keywords} as a full word.
+     */
+    public int countLoansWithNameKeywords(Collection<String> keywords) {
+        return loans.countLoansWithNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the number of loans which started strictly between {@code startTime} and {@code endTime}.
+     */
+    public int countLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        return loans.countLoansStartedBetween(startTime, endTime);
+    }
+
+    /**
+     * Returns the number of returned loans which ended strictly between {@code startTime} and {@code endTime}.
+     */
+    public int countLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        return loans.countLoansEndedBetween(startTime, endTime);
+    }
+
+    /**
+     * Returns the fields of all the loans in the loan book, stored by column.
+     */
+    public LoanColumns getLoanColumns() {
+        return loans.getColumns();
+    }
+
+    @Override
+    public Summary getLoanSummary() {
+        return loans.getSummary();
+    }
+
     @Override
     public LoanIdManager getLoanIdManager() {
         return new LoanIdManager(loanIdManager.getLastUsedLoanId());
@@ -0,0 +1,115 @@
+package loanbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import loanbook.model.bike.Bike;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanIdManager;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
+
+/**
+ * An unchanging copy of the bikes, loans and Loan ID Manager of a loan book.
+ * Only the lists are copied, without any of the indexes of the loan book, so a snapshot is cheap to take.
+ * The lists of a {@code LoanBook} are not copied at all: their {@link PersistentList} mirrors are shared instead.
+ * The indexes are built, by copying the snapshot into a {@code LoanBook}, only when the snapshot is first queried.
+ * Once taken, a snapshot may be read from any thread.
+ */
+public class LoanBookSnapshot implements ReadOnlyLoanBook {
+
+    private final ObservableList<Bike> bikes;
+    private final ObservableList<Loan> loans;
+    private final LoanIdManager loanIdManager;
+    /** A loan book with the data of this snapshot, which is built when it is first needed. Guarded by this. */
+    private LoanBook indexedLoanBook = null;
+
+    /**
+     * Takes a snapshot of the current data of {@code source}.
+     */
+    public LoanBookSnapshot(ReadOnlyLoanBook source) {
+        requireNonNull(source);
+        if (source instanceof LoanBook) {
+            LoanBook sourceLoanBook = (LoanBook) source;
+            bikes = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(sourceLoanBook.getBikeSnapshot()));
+            loans = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(sourceLoanBook.getLoanSnapshot()));
+        } else {
+            bikes = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getBikeList()));
+            loans = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getLoanList()));
+        }
+        loanIdManager = source.getLoanIdManager();
+    }
+
+    @Override
+    public ObservableList<Bike> getBikeList() {
+        return bikes;
+    }
+
+    @Override
+    public ObservableList<Loan> getLoanList() {
+        return loans;
+    }
+
+    @Override
+    public List<Loan> getOngoingLoansOfBike(Bike bike) {
+        return getIndexedLoanBook().getOngoingLoansOfBike(bike);
+    }
+
+    @Override
+    public List<Loan> getReturnedLoansOfBike(Bike bike) {
+        return getIndexedLoanBook().getReturnedLoansOfBike(bike);
+    }
+
+    @Override
+    public List<Loan> getLoansOfCustomer(Nric nric) {
+        return getIndexedLoanBook().getLoansOfCustomer(nric);
+    }
+
+    @Override
+    public List<Loan> getLoansWithNameKeywords(Collection<String> keywords) {
+        return getIndexedLoanBook().getLoansWithNameKeywords(keywords);
+    }
+
+    @Override
+    public List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        return getIndexedLoanBook().getLoansStartedBetween(startTime, endTime);
+    }
+
+    @Override
+    public List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        return getIndexedLoanBook().getLoansEndedBetween(startTime, endTime);
+    }
+
+    @Override
+    public Summary getLoanSummary() {
+        return getIndexedLoanBook().getLoanSummary();
+    }
+
+    @Override
+    public LoanIdManager getLoanIdManager() {
+        return new LoanIdManager(loanIdManager.getLastUsedLoanId());
+    }
+
+    @Override
+    public boolean hasEqualEditableFields(ReadOnlyLoanBook other) {
+        return getIndexedLoanBook().hasEqualEditableFields(other);
+    }
+
+    /**
+     * Returns a loan book with the data of this snapshot, building it if it has not been built.
+     */
+    private synchronized LoanBook getIndexedLoanBook() {
+        if (indexedLoanBook == null) {
+            indexedLoanBook = new LoanBook(this);
+        }
+        return indexedLoanBook;
+    }
+}
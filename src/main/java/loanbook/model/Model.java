@@ -1,13 +1,21 @@
 package loanbook.model;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import loanbook.model.bike.Bike;
 import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanColumns;
 import loanbook.model.loan.LoanId;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -34,6 +42,11 @@ public interface Model {
      */
     Optional<Bike> getBike(String bikeName);
 
+    /**
+     * Returns the bikes in the loan book whose names start with {@code prefix}, ignoring case.
+     */
+    List<Bike> getBikesWithNamePrefix(String prefix);
+
     /**
      * Adds the given bike.
      * {@code bike} must not already exist in the loan book.
@@ -148,6 +161,63 @@ public interface Model {
      */
     Optional<Loan> getLoanById(LoanId loanId);
 
+    /**
+     * Returns an unmodifiable view of the ongoing loans of {@code bike}.
+     */
+    List<Loan> getOngoingLoansOfBike(Bike bike);
+
+    /**
+     * Returns an unmodifiable view of the returned loans of {@code bike}.
+     */
+    List<Loan> getReturnedLoansOfBike(Bike bike);
+
+    /**
+     * Returns an unmodifiable view of the loans of the customer with the given NRIC.
+     */
+    List<Loan> getLoansOfCustomer(Nric nric);
+
+    /**
+     * Returns the loans whose names contain any of {@code keywords} as a full word, ignoring case.
+     */
+    List<Loan> getLoansWithNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the loans which started strictly between {@code startTime} and {@code endTime}.
+     */
+    List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime);
+
+    /**
+     * Returns the returned loans which ended strictly between {@code startTime} and {@code endTime}.
+     */
+    List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime);
+
+    /**
+     * Returns an upper bound on the number of loans whose names contain any of {@code keywords} as a full word,
+     * which is cheaper to find than the loans themselves.
+     */
+    int countLoansWithNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the number of loans which started strictly between {@code startTime} and {@code endTime}.
+     */
+    int countLoansStartedBetween(LoanTime startTime, LoanTime endTime);
+
+    /**
+     * Returns the number of returned loans which ended strictly between {@code startTime} and {@code endTime}.
+     */
+    int countLoansEndedBetween(LoanTime startTime, LoanTime endTime);
+
+    /**
+     * Returns the statistics of all the loans in the loan book, regardless of the current filter.
+     */
+    Summary getLoanSummary();
+
+    /**
+     * Returns the fields of all the loans in the loan book, stored by column for analysis.
+     * The returned columns do not follow later changes to the loans.
+     */
+    LoanColumns getLoanColumns();
+
     /**
      * Clears the loan list.
      */
@@ -156,12 +226,39 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered loan list */
     ObservableList<Loan> getFilteredLoanList();
 
+    /** Returns an unmodifiable view of the ongoing loans, which is kept up to date as loans change */
+    ObservableList<Loan> getOngoingLoanList();
+
+    /** Returns an unmodifiable view of the returned loans, which is kept up to date as loans change */
+    ObservableList<Loan> getReturnedLoanList();
+
     /**
      * Updates the filter of the filtered loan list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredLoanList(Predicate<Loan> predicate);
 
+    /**
+     * Updates the filter of the filtered loan list to show the loans which satisfy {@code query},
+     * found as given by {@link #planLoanQuery(LoanQuery)}.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredLoanList(LoanQuery query);
+
+    /**
+     * Updates the filter of the filtered loan list to show the loans which satisfy the query of {@code plan},
+     * found as given by {@code plan}, which must have been made by {@link #planLoanQuery(LoanQuery)} for the
+     * current loans.
+     * @throws NullPointerException if {@code plan} is null.
+     */
+    void updateFilteredLoanList(QueryPlan plan);
+
+    /**
+     * Returns the plan for finding the loans which satisfy {@code query}, without changing the filtered loan list.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan planLoanQuery(LoanQuery query);
+
     /**
      * Returns true if the model has previous loan book states to restore.
      */
@@ -187,6 +284,21 @@ public interface Model {
      */
     void commitLoanBook();
 
+    /**
+     * Runs {@code mutations} on the model as a single change to the loan book.
+     * The change is saved as one loan book state for undo/redo, and is indicated with a single event after all
+     * of {@code mutations} have run. If {@code mutations} throws an exception, the loan book is restored to its
+     * last saved state before the exception is rethrown.
+     * Transactions may be nested, in which case the changes are saved with the outermost transaction.
+     */
+    void runTransaction(Runnable mutations);
+
+    /**
+     * Runs {@code mutations} on the model as a single change to the loan book, in the same way as
+     * {@link #runTransaction(Runnable)}, and returns their result.
+     */
+    <T> T runTransaction(Supplier<T> mutations);
+
     /**
      * Checks if this Model is equal to the specified Model, but when comparing Loans
      */
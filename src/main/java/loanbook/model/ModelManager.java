@@ -4,10 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
 import static loanbook.commons.util.CollectionUtil.testByElement;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -18,7 +24,13 @@ import loanbook.commons.core.LogsCenter;
 import loanbook.commons.events.model.LoanBookChangedEvent;
 import loanbook.model.bike.Bike;
 import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanColumns;
 import loanbook.model.loan.LoanId;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.QueryPlan;
 
 /**
  * Represents the in-memory model of the loan book data.
@@ -31,6 +43,9 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Loan> filteredLoans;
     private final UserPrefs preference;
 
+    private int openTransactionCount = 0;
+    private boolean isChangedInTransaction = false;
+
     /**
      * Initializes a ModelManager with the given loanBook and userPrefs.
      */
@@ -40,7 +55,7 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with loan book: " + loanBook + " and user prefs " + userPrefs);
 
-        versionedLoanBook = new VersionedLoanBook(loanBook);
+        versionedLoanBook = new VersionedLoanBook(loanBook, userPrefs.getUndoLimit());
         filteredBikes = new FilteredList<>(versionedLoanBook.getBikeList());
         filteredLoans = new FilteredList<>(versionedLoanBook.getLoanList());
         preference = userPrefs;
@@ -61,8 +76,15 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedLoanBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /**
+     * Raises an event to indicate the model has changed.
+     * Within a transaction, the event is only raised once the transaction has ended.
+     */
     private void indicateLoanBookChanged() {
+        if (openTransactionCount > 0) {
+            isChangedInTransaction = true;
+            return;
+        }
         raise(new LoanBookChangedEvent(versionedLoanBook));
     }
 
@@ -79,6 +101,12 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedLoanBook.getBike(bikeName);
     }
 
+    @Override
+    public List<Bike> getBikesWithNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return versionedLoanBook.getBikesWithNamePrefix(prefix);
+    }
+
     @Override
     public void addBike(Bike bike) {
         versionedLoanBook.addBike(bike);
@@ -116,6 +144,64 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedLoanBook.getLoanById(loanId);
     }
 
+    @Override
+    public List<Loan> getOngoingLoansOfBike(Bike bike) {
+        requireNonNull(bike);
+        return versionedLoanBook.getOngoingLoansOfBike(bike);
+    }
+
+    @Override
+    public List<Loan> getReturnedLoansOfBike(Bike bike) {
+        requireNonNull(bike);
+        return versionedLoanBook.getReturnedLoansOfBike(bike);
+    }
+
+    @Override
+    public List<Loan> getLoansOfCustomer(Nric nric) {
+        requireNonNull(nric);
+        return versionedLoanBook.getLoansOfCustomer(nric);
+    }
+
+    @Override
+    public List<Loan> getLoansWithNameKeywords(Collection<String> keywords) {
+        return versionedLoanBook.getLoansWithNameKeywords(keywords);
+    }
+
+    @Override
+    public List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        return versionedLoanBook.getLoansStartedBetween(startTime, endTime);
+    }
+
+    @Override
+    public List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        return versionedLoanBook.getLoansEndedBetween(startTime, endTime);
+    }
+
+    @Override
+    public int countLoansWithNameKeywords(Collection<String> keywords) {
+        return versionedLoanBook.countLoansWithNameKeywords(keywords);
+    }
+
+    @Override
+    public int countLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        return versionedLoanBook.countLoansStartedBetween(startTime, endTime);
+    }
+
+    @Override
+    public int countLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        return versionedLoanBook.countLoansEndedBetween(startTime, endTime);
+    }
+
+    @Override
+    public Summary getLoanSummary() {
+        return versionedLoanBook.getLoanSummary();
+    }
+
+    @Override
+    public LoanColumns getLoanColumns() {
+        return versionedLoanBook.getLoanColumns();
+    }
+
     //=========== Filtered Bike List Accessors =============================================================
 
     /**
@@ -188,12 +274,109 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredLoans);
     }
 
+    @Override
+    public ObservableList<Loan> getOngoingLoanList() {
+        return versionedLoanBook.getOngoingLoanList();
+    }
+
+    @Override
+    public ObservableList<Loan> getReturnedLoanList() {
+        return versionedLoanBook.getReturnedLoanList();
+    }
+
     @Override
     public void updateFilteredLoanList(Predicate<Loan> predicate) {
         requireNonNull(predicate);
         filteredLoans.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredLoanList(LoanQuery query) {
+        updateFilteredLoanList(planLoanQuery(query));
+    }
+
+    @Override
+    public void updateFilteredLoanList(QueryPlan plan) {
+        requireNonNull(plan);
+        logger.fine(plan.toString());
+
+        if (!plan.getIndexedConjunct().isPresent()) {
+            filteredLoans.setPredicate(plan.hasResidualQuery() ? plan.getResidualQuery() : PREDICATE_SHOW_ALL_LOANS);
+            return;
+        }
+
+        IndexedQueryFilter filter = new IndexedQueryFilter(plan);
+        filteredLoans.setPredicate(filter);
+        filter.finishInitialFiltering();
+    }
+
+    /**
+     * Plans {@code query} by looking up the conjunct of the query which has an index and is estimated to give the
+     * fewest loans, leaving the other conjuncts to be tested against those loans. Only the chosen conjunct is looked
+     * up. Every loan is tested if no conjunct has an index.
+     */
+    @Override
+    public QueryPlan planLoanQuery(LoanQuery query) {
+        requireNonNull(query);
+
+        List<LoanQuery> conjuncts = query.getConjuncts();
+        int bestConjunctIndex = -1;
+        int bestEstimate = Integer.MAX_VALUE;
+        for (int i = 0; i < conjuncts.size(); i++) {
+            OptionalInt estimate = conjuncts.get(i).estimateCount(this);
+            if (estimate.isPresent() && (bestConjunctIndex == -1 || estimate.getAsInt() < bestEstimate)) {
+                bestConjunctIndex = i;
+                bestEstimate = estimate.getAsInt();
+            }
+        }
+
+        if (bestConjunctIndex == -1) {
+            return new QueryPlan(query);
+        }
+
+        List<LoanQuery> residualConjuncts = new ArrayList<>(conjuncts);
+        LoanQuery indexedConjunct = residualConjuncts.remove(bestConjunctIndex);
+        LoanQuery residualQuery = LoanQuery.allOf(residualConjuncts);
+        return indexedConjunct.lookUp(this)
+                .map(candidates -> new QueryPlan(query, indexedConjunct, candidates, residualQuery))
+                .orElseGet(() -> new QueryPlan(query));
+    }
+
+    /**
+     * The filter of the loans which satisfy the query of a plan which uses an index.
+     * When the filter is set, every loan is filtered at once, and only the candidates from the index are tested
+     * against the residual query. Loans which are added or replaced afterwards are tested against the whole query,
+     * so that the filter keeps showing a loan after it is edited if it still satisfies the query.
+     */
+    private static class IndexedQueryFilter implements Predicate<Loan> {
+
+        private final LoanQuery query;
+        /** The candidates which satisfy the residual query, until the initial filtering is finished. */
+        private Set<Loan> initialMatchingLoans = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        IndexedQueryFilter(QueryPlan plan) {
+            this.query = plan.getQuery();
+            LoanQuery residualQuery = plan.getResidualQuery();
+            for (Loan candidate : plan.getCandidates()) {
+                if (residualQuery.test(candidate)) {
+                    initialMatchingLoans.add(candidate);
+                }
+            }
+        }
+
+        /**
+         * Makes the filter test loans against the whole query from now on.
+         */
+        void finishInitialFiltering() {
+            initialMatchingLoans = null;
+        }
+
+        @Override
+        public boolean test(Loan loan) {
+            return initialMatchingLoans != null ? initialMatchingLoans.contains(loan) : query.test(loan);
+        }
+    }
+
     //=========== Loan ID Methods ===========================================================================
 
     @Override
@@ -242,9 +425,55 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void commitLoanBook() {
+        assert openTransactionCount == 0 : "A transaction commits its own changes when it ends.";
         versionedLoanBook.commit();
     }
 
+    @Override
+    public void runTransaction(Runnable mutations) {
+        requireNonNull(mutations);
+        runTransaction(() -> {
+            mutations.run();
+            return null;
+        });
+    }
+
+    @Override
+    public <T> T runTransaction(Supplier<T> mutations) {
+        requireNonNull(mutations);
+
+        openTransactionCount++;
+        boolean isCompleted = false;
+        try {
+            T result = mutations.get();
+            isCompleted = true;
+            return result;
+        } finally {
+            openTransactionCount--;
+            if (openTransactionCount == 0) {
+                endTransaction(isCompleted);
+            }
+        }
+    }
+
+    /**
+     * Saves the changes made in the outermost transaction if it is {@code completed}, or discards them otherwise,
+     * then indicates the change if there was one. A completed transaction which changed nothing saves no state,
+     * so that undo does not step back over it.
+     */
+    private void endTransaction(boolean isCompleted) {
+        if (!isCompleted) {
+            versionedLoanBook.discardUncommittedChanges();
+        } else if (isChangedInTransaction || versionedLoanBook.hasUncommittedChanges()) {
+            versionedLoanBook.commit();
+        }
+
+        if (isChangedInTransaction) {
+            isChangedInTransaction = false;
+            indicateLoanBookChanged();
+        }
+    }
+
     //=========== Password =================================================================================
 
     @Override
@@ -6,6 +6,7 @@ import java.security.spec.InvalidKeySpecException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Random;
+import java.util.regex.Pattern;
 
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
@@ -21,6 +22,7 @@ public class Password {
     private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
     private static final int ITERATIONS = 10000;
     private static final int KEY_LENGTH = 256;
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("^[a-zA-Z0-9]{6,10}$");
 
     private String password;
 
@@ -111,7 +113,7 @@ public class Password {
      * Returns true if a given string is a valid password.
      */
     public static boolean isValidPass(String objString) {
-        return objString.matches("^[a-zA-Z0-9]{6,10}$");
+        return PASSWORD_PATTERN.matcher(objString).matches();
     }
 
     private static String encrypt(String pass, String salt) {
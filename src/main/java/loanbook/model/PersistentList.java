@@ -0,0 +1,260 @@
+package loanbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list which is updated by creating a new list that shares all of its unchanged parts with the
+ * original list, so that many versions of a list can be kept without copying the whole list for each version.
+ * The items are stored in a height-balanced binary tree ordered by position, so retrieving, replacing,
+ * inserting and removing an item at an index all take O(log n) time.
+ *
+ * Like the lists of a {@code UniqueList}, a {@code PersistentList} does not allow nulls.
+ *
+ * @param <T> The type of item in the list.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the items of {@code items}, in order.
+     */
+    public static <T> PersistentList<T> copyOf(List<? extends T> items) {
+        requireNonNull(items);
+        if (items instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<T> persistentList = (PersistentList<T>) items;
+            return persistentList;
+        }
+        return items.isEmpty() ? empty() : new PersistentList<>(build(new ArrayList<>(items), 0, items.size()));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.item;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with the item at {@code index} replaced by {@code item}.
+     */
+    public PersistentList<T> with(int index, T item) {
+        requireNonNull(item);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, item));
+    }
+
+    /**
+     * Returns a list with {@code item} inserted at {@code index}, shifting the items from {@code index} onwards
+     * to the right.
+     */
+    public PersistentList<T> plus(int index, T item) {
+        requireNonNull(item);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, item));
+    }
+
+    /**
+     * Returns a list with {@code item} appended to the end of the list.
+     */
+    public PersistentList<T> plus(T item) {
+        return plus(size(), item);
+    }
+
+    /**
+     * Returns a list with the item at {@code index} removed, shifting the items after {@code index} to the left.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns an iterator over the items of the list, which visits each node of the tree once.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> pendingNodes = new ArrayDeque<>();
+            private Node<T> nextSubtree = root;
+
+            @Override
+            public boolean hasNext() {
+                return nextSubtree != null || !pendingNodes.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (nextSubtree != null) {
+                    pendingNodes.push(nextSubtree);
+                    nextSubtree = nextSubtree.left;
+                }
+                Node<T> node = pendingNodes.pop();
+                nextSubtree = node.right;
+                return node.item;
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    //// tree operations, each of which copies only the nodes on the path to the affected item
+
+    /**
+     * Returns a balanced tree of the items of {@code items} from {@code fromIndex} (inclusive)
+     * to {@code toIndex} (exclusive).
+     */
+    private static <T> Node<T> build(List<T> items, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return null;
+        }
+        int middleIndex = (fromIndex + toIndex) >>> 1;
+        return new Node<>(build(items, fromIndex, middleIndex), items.get(middleIndex),
+                build(items, middleIndex + 1, toIndex));
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with the item at {@code index} replaced by {@code item}.
+     */
+    private static <T> Node<T> set(Node<T> node, int index, T item) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, item), node.item, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.item, set(node.right, index - leftSize - 1, item));
+        } else {
+            return new Node<>(node.left, item, node.right);
+        }
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with {@code item} inserted at {@code index}.
+     */
+    private static <T> Node<T> insert(Node<T> node, int index, T item) {
+        if (node == null) {
+            return new Node<>(null, item, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, item), node.item, node.right);
+        } else {
+            return balance(node.left, node.item, insert(node.right, index - leftSize - 1, item));
+        }
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with the item at {@code index} removed.
+     */
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.item, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.item, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.item, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a tree of {@code left}, {@code item} and {@code right}, rotated if the heights of {@code left}
+     * and {@code right} differ by two, which is the most that a single insertion or removal can cause.
+     */
+    private static <T> Node<T> balance(Node<T> left, T item, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.item, new Node<>(left.right, item, right));
+            }
+            return new Node<>(new Node<>(left.left, left.item, left.right.left), left.right.item,
+                    new Node<>(left.right.right, item, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, item, right.left), right.item, right.right);
+            }
+            return new Node<>(new Node<>(left, item, right.left.left), right.left.item,
+                    new Node<>(right.left.right, right.item, right.right));
+        }
+        return new Node<>(left, item, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable node of the tree, holding one item and the subtrees of the items before and after it.
+     */
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T item;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<T> left, T item, Node<T> right) {
+            this.left = left;
+            this.item = item;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
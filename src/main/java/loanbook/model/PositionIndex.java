@@ -0,0 +1,87 @@
+package loanbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the position of each item in a list, so that an item in the list can be found without searching it.
+ * Items are compared by identity, so every item in the list must be a distinct object.
+ *
+ * Removing or inserting an item in the middle of the list shifts the items after it, so rather than updating
+ * all of their positions at once, their positions are only recomputed when one of them is next looked up.
+ * The owner of the list must tell the index of every change to the list, after making it.
+ *
+ * @param <T> The type of item in the list.
+ */
+public class PositionIndex<T> {
+
+    private final List<T> list;
+    /**
+     * Maps each item, by identity, to its position in {@code list}. Every mapping to a position below
+     * {@code knownPositionCount} is correct; the mappings of the items from that position onwards may be stale.
+     */
+    private final Map<T, Integer> positions = new IdentityHashMap<>();
+    private int knownPositionCount = 0;
+
+    /**
+     * Creates an index of the positions of the items in {@code list}.
+     */
+    public PositionIndex(List<T> list) {
+        requireNonNull(list);
+        this.list = list;
+    }
+
+    /**
+     * Returns the position of {@code item}, which must be in the list, recomputing the positions which may be
+     * stale if it is one of them.
+     */
+    public int positionOf(T item) {
+        Integer position = positions.get(item);
+        if (position != null && position < knownPositionCount) {
+            return position;
+        }
+
+        for (int i = knownPositionCount; i < list.size(); i++) {
+            positions.put(list.get(i), i);
+        }
+        knownPositionCount = list.size();
+        return positions.get(item);
+    }
+
+    /**
+     * Records that {@code item} has been added to the end of the list.
+     */
+    public void onAppended(T item) {
+        if (knownPositionCount == list.size() - 1) {
+            positions.put(item, knownPositionCount++);
+        }
+    }
+
+    /**
+     * Records that {@code editedItem} has replaced {@code replacedItem} at {@code position}.
+     */
+    public void onReplaced(T replacedItem, T editedItem, int position) {
+        positions.remove(replacedItem);
+        positions.put(editedItem, position);
+    }
+
+    /**
+     * Records that {@code removedItems} have been removed from the list, and that the items from {@code position}
+     * onwards may have moved.
+     */
+    public void onRemoved(List<T> removedItems, int position) {
+        removedItems.forEach(positions::remove);
+        knownPositionCount = Math.min(knownPositionCount, position);
+    }
+
+    /**
+     * Forgets the positions of all items, after the contents of the list have been replaced.
+     */
+    public void clear() {
+        positions.clear();
+        knownPositionCount = 0;
+    }
+}
@@ -1,9 +1,15 @@
 package loanbook.model;
 
+import java.util.Collection;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import loanbook.model.bike.Bike;
 import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanIdManager;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
 
 /**
  * Unmodifiable view of an loan book
@@ -22,6 +28,41 @@ public interface ReadOnlyLoanBook {
      */
     ObservableList<Loan> getLoanList();
 
+    /**
+     * Returns an unmodifiable view of the ongoing loans of {@code bike}.
+     */
+    List<Loan> getOngoingLoansOfBike(Bike bike);
+
+    /**
+     * Returns an unmodifiable view of the returned loans of {@code bike}.
+     */
+    List<Loan> getReturnedLoansOfBike(Bike bike);
+
+    /**
+     * Returns an unmodifiable view of the loans of the customer with the given NRIC.
+     */
+    List<Loan> getLoansOfCustomer(Nric nric);
+
+    /**
+     * Returns the loans whose names contain any of {@code keywords} as a full word, ignoring case.
+     */
+    List<Loan> getLoansWithNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the loans which started strictly between {@code startTime} and {@code endTime}.
+     */
+    List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime);
+
+    /**
+     * Returns the returned loans which ended strictly between {@code startTime} and {@code endTime}.
+     */
+    List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime);
+
+    /**
+     * Returns the statistics of all the loans, which are kept up to date as loans change.
+     */
+    Summary getLoanSummary();
+
     /**
      * Returns a copy of the Loan ID Manager.
      */
@@ -0,0 +1,154 @@
+package loanbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index of items by a key derived from each item, used by a {@code UniqueList} to look up its items
+ * by something other than their identity.
+ * Items whose key is null are not indexed, which allows an index to cover only a subset of the items.
+ * An index may also be created with {@link #withMultipleKeys(Function)}, in which case each item is indexed
+ * under every one of its keys.
+ *
+ * Items are removed from the index using {@code T#equals(Object)}, in the same way as they are removed
+ * from a {@code UniqueList}, except by {@link #removeAll(Collection)}, which removes them by identity.
+ *
+ * @param <K> The type of key the items are indexed by.
+ * @param <T> The type of item in the index.
+ */
+public class SecondaryIndex<K, T> {
+
+    private final Function<? super T, ? extends Collection<? extends K>> keysExtractor;
+    private final Map<K, List<T>> index;
+
+    /**
+     * Creates an empty index of items by the keys given by {@code keyExtractor}.
+     */
+    public SecondaryIndex(Function<? super T, ? extends K> keyExtractor) {
+        this(keyExtractor, new HashMap<>());
+    }
+
+    /**
+     * Creates an index of items by the keys given by {@code keyExtractor}, backed by the empty map {@code index}.
+     */
+    protected SecondaryIndex(Function<? super T, ? extends K> keyExtractor, Map<K, List<T>> index) {
+        this(index, item -> {
+            K key = keyExtractor.apply(item);
+            return key == null ? Collections.<K>emptySet() : Collections.singleton(key);
+        });
+        requireNonNull(keyExtractor);
+    }
+
+    private SecondaryIndex(Map<K, List<T>> index,
+                           Function<? super T, ? extends Collection<? extends K>> keysExtractor) {
+        requireNonNull(index);
+        this.keysExtractor = keysExtractor;
+        this.index = index;
+    }
+
+    /**
+     * Creates an empty index of items by all of the keys given by {@code keysExtractor}.
+     * The keys of an item must be distinct and non-null.
+     */
+    public static <K, T> SecondaryIndex<K, T> withMultipleKeys(
+            Function<? super T, ? extends Collection<? extends K>> keysExtractor) {
+        requireNonNull(keysExtractor);
+        return new SecondaryIndex<>(new HashMap<>(), keysExtractor);
+    }
+
+    /**
+     * Adds {@code item} to the index under its keys.
+     */
+    public void add(T item) {
+        for (K key : keysExtractor.apply(item)) {
+            index.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the index, if it is indexed.
+     */
+    public void remove(T item) {
+        for (K key : keysExtractor.apply(item)) {
+            List<T> itemsWithSameKey = index.get(key);
+            if (itemsWithSameKey == null) {
+                continue;
+            }
+
+            itemsWithSameKey.remove(item);
+            if (itemsWithSameKey.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes each of {@code items} from the index, if it is indexed.
+     * The items are compared by identity, and each list of items with the same key is only scanned once,
+     * however many of {@code items} it holds.
+     */
+    public void removeAll(Collection<? extends T> items) {
+        Set<T> itemsToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<K> keysOfItems = new HashSet<>();
+        for (T item : items) {
+            itemsToRemove.add(item);
+            keysOfItems.addAll(keysExtractor.apply(item));
+        }
+
+        for (K key : keysOfItems) {
+            List<T> itemsWithSameKey = index.get(key);
+            if (itemsWithSameKey == null) {
+                continue;
+            }
+
+            itemsWithSameKey.removeIf(itemsToRemove::contains);
+            if (itemsWithSameKey.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        index.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the items indexed under {@code key}, in the order they were added.
+     */
+    public List<T> get(K key) {
+        requireNonNull(key);
+        List<T> itemsWithKey = index.get(key);
+        return itemsWithKey == null ? Collections.emptyList() : Collections.unmodifiableList(itemsWithKey);
+    }
+
+    /**
+     * Returns the number of items indexed under {@code key}.
+     */
+    public int count(K key) {
+        requireNonNull(key);
+        List<T> itemsWithKey = index.get(key);
+        return itemsWithKey == null ? 0 : itemsWithKey.size();
+    }
+
+    /**
+     * Returns a list of all the items in {@code buckets}, in order.
+     */
+    protected static <T> List<T> flatten(Iterable<List<T>> buckets) {
+        List<T> items = new ArrayList<>();
+        buckets.forEach(items::addAll);
+        return items;
+    }
+}
@@ -0,0 +1,68 @@
+package loanbook.model;
+
+import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A {@code SecondaryIndex} that keeps its keys in their natural order, so that the items whose keys lie
+ * within a range can be found without looking at the items outside of it.
+ *
+ * @param <K> The type of key the items are indexed by.
+ * @param <T> The type of item in the index.
+ */
+public class SortedSecondaryIndex<K extends Comparable<? super K>, T> extends SecondaryIndex<K, T> {
+
+    private final NavigableMap<K, List<T>> sortedIndex;
+
+    /**
+     * Creates an empty index of items by the keys given by {@code keyExtractor}.
+     */
+    public SortedSecondaryIndex(Function<? super T, ? extends K> keyExtractor) {
+        this(keyExtractor, new TreeMap<>());
+    }
+
+    private SortedSecondaryIndex(Function<? super T, ? extends K> keyExtractor, NavigableMap<K, List<T>> index) {
+        super(keyExtractor, index);
+        sortedIndex = index;
+    }
+
+    /**
+     * Returns all the indexed items, sorted by their keys.
+     */
+    public List<T> getAll() {
+        return flatten(sortedIndex.values());
+    }
+
+    /**
+     * Returns the items whose keys lie between {@code fromKey} and {@code toKey}, sorted by their keys.
+     * If {@code fromKey} is greater than {@code toKey}, there are no such items.
+     */
+    public List<T> getInRange(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        requireAllNonNull(fromKey, toKey);
+        if (fromKey.compareTo(toKey) > 0) {
+            return Collections.emptyList();
+        }
+        return flatten(sortedIndex.subMap(fromKey, fromInclusive, toKey, toInclusive).values());
+    }
+
+    /**
+     * Returns the number of items whose keys lie between {@code fromKey} and {@code toKey}, without listing them.
+     */
+    public int countInRange(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        requireAllNonNull(fromKey, toKey);
+        if (fromKey.compareTo(toKey) > 0) {
+            return 0;
+        }
+
+        int count = 0;
+        for (List<T> itemsWithKey : sortedIndex.subMap(fromKey, fromInclusive, toKey, toInclusive).values()) {
+            count += itemsWithKey.size();
+        }
+        return count;
+    }
+}
@@ -3,8 +3,13 @@ package loanbook.model;
 import static java.util.Objects.requireNonNull;
 import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,6 +21,15 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniqueList. However, the removal of an item uses T#equals(Object) so
  * as to ensure that the item with exactly the same fields will be removed.
  *
+ * Items are additionally indexed by {@code T#getIdentityKey()}. Weakly identical items are exactly the items with
+ * equal identity keys, so the list holds at most one item per key, and checking for a weakly identical item is a
+ * single lookup instead of a search of the whole list.
+ * The position of each item in the list is also kept in a {@link PositionIndex}, so that {@link #set} and
+ * {@link #remove} find the item without searching the list.
+ *
+ * The items are also mirrored in a {@link PersistentList}, so that a snapshot of the list can be taken in
+ * constant time and successive snapshots share their unchanged parts.
+ *
  * Supports a minimal set of list operations.
  *
  * @param <T> The type of item in the list.
@@ -25,6 +39,15 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
 
     protected final ObservableList<T> internalList = FXCollections.observableArrayList();
 
+    /** Maps the identity key of each item in {@code internalList} to that item. */
+    private Map<Object, T> identityIndex = new HashMap<>();
+
+    /** The position of each item in {@code internalList}. */
+    private final PositionIndex<T> positions = new PositionIndex<>(internalList);
+
+    /** An immutable copy of {@code internalList}, which is updated along with it. */
+    private PersistentList<T> persistentItems = PersistentList.empty();
+
     /**
      * Throws an exception signifying that a duplicate item has been detected.
      */
@@ -40,7 +63,7 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSame);
+        return containsSame(identityIndex, toCheck);
     }
 
     /**
@@ -53,6 +76,10 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
             throwDuplicateException();
         }
         internalList.add(toAdd);
+        persistentItems = persistentItems.plus(toAdd);
+        addToIndex(identityIndex, toAdd);
+        positions.onAppended(toAdd);
+        onItemAdded(toAdd);
     }
 
     /**
@@ -63,7 +90,7 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
     public void set(T target, T editedItem) {
         requireAllNonNull(target, editedItem);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throwNotFoundException();
         }
@@ -72,7 +99,50 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
             throwDuplicateException();
         }
 
-        internalList.set(index, editedItem);
+        T replacedItem = internalList.set(index, editedItem);
+        persistentItems = persistentItems.with(index, editedItem);
+        replaceInIndex(identityIndex, replacedItem, editedItem);
+        positions.onReplaced(replacedItem, editedItem, index);
+        onItemRemoved(replacedItem);
+        onItemAdded(editedItem);
+    }
+
+    /**
+     * Replaces each item in {@code targets} with the item at the same position in {@code editedItems}.
+     * Every item in {@code targets} must exist in the list, and no item in {@code targets} may appear twice.
+     * The edited items must not be identical to each other, or to another existing item in the list.
+     * The subclass is told of all the replacements at once, so it can update its own indexes in bulk.
+     */
+    public void setEach(List<T> targets, List<T> editedItems) {
+        requireAllNonNull(targets, editedItems);
+        if (targets.size() != editedItems.size()) {
+            throw new IllegalArgumentException("Each target must have exactly one edited item.");
+        }
+
+        int[] indexes = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            indexes[i] = indexOf(targets.get(i));
+            if (indexes[i] == -1) {
+                throwNotFoundException();
+            }
+            if (!targets.get(i).isSame(editedItems.get(i)) && contains(editedItems.get(i))) {
+                throwDuplicateException();
+            }
+        }
+        if (!itemsAreUnique(targets) || !itemsAreUnique(editedItems)) {
+            throwDuplicateException();
+        }
+
+        List<T> replacedItems = new ArrayList<>(targets.size());
+        for (int i = 0; i < indexes.length; i++) {
+            T editedItem = editedItems.get(i);
+            T replacedItem = internalList.set(indexes[i], editedItem);
+            persistentItems = persistentItems.with(indexes[i], editedItem);
+            replaceInIndex(identityIndex, replacedItem, editedItem);
+            positions.onReplaced(replacedItem, editedItem, indexes[i]);
+            replacedItems.add(replacedItem);
+        }
+        onItemsReplaced(replacedItems, editedItems);
     }
 
     /**
@@ -81,18 +151,36 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throwNotFoundException();
         }
+
+        T removedItem = internalList.remove(index);
+        persistentItems = persistentItems.minus(index);
+        removeFromIndex(identityIndex, removedItem);
+        positions.onRemoved(Collections.singletonList(removedItem), index);
+        onItemRemoved(removedItem);
     }
 
     /**
      * Replaces the current list of items with the replacement.
+     * The items of {@code replacement} are already known to be unique, so they are not checked for duplicates
+     * again, and its identity index is copied instead of being rebuilt.
      * @param replacement A new list of items.
      */
     public void setAll(UniqueList<T> replacement) {
         requireNonNull(replacement);
+        if (replacement == this) {
+            return;
+        }
+
+        List<T> replacedItems = new ArrayList<>(internalList);
         internalList.setAll(replacement.internalList);
+        persistentItems = replacement.persistentItems;
+        identityIndex = new HashMap<>(replacement.identityIndex);
+        positions.clear();
+        onAllItemsReplaced(replacedItems, internalList);
     }
 
     /**
@@ -101,11 +189,102 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
      */
     public void setAll(List<T> items) {
         requireAllNonNull(items);
-        if (!itemsAreUnique(items)) {
+        Map<Object, T> replacementIndex = buildIndex(items);
+        if (replacementIndex == null) {
             throwDuplicateException();
         }
 
+        List<T> replacedItems = new ArrayList<>(internalList);
         internalList.setAll(items);
+        persistentItems = PersistentList.copyOf(items);
+        identityIndex = replacementIndex;
+        positions.clear();
+        onAllItemsReplaced(replacedItems, internalList);
+    }
+
+    /**
+     * Replaces the items in the list from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code items}, leaving the other items in place.
+     * The resulting list must not contain duplicate items.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<T> items) {
+        requireAllNonNull(items);
+        boolean isSingleItemReplaced = toIndex - fromIndex == 1 && items.size() == 1;
+        if (fromIndex == 0 && toIndex == internalList.size() && !isSingleItemReplaced) {
+            setAll(items);
+            return;
+        }
+
+        List<T> replacedItems = new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        replacedItems.forEach(item -> removeFromIndex(identityIndex, item));
+        for (int i = 0; i < items.size(); i++) {
+            if (containsSame(identityIndex, items.get(i))) {
+                // Each key holds a single item, so restoring the replaced items leaves the index as it was.
+                items.subList(0, i).forEach(item -> removeFromIndex(identityIndex, item));
+                replacedItems.forEach(item -> addToIndex(identityIndex, item));
+                throwDuplicateException();
+            }
+            addToIndex(identityIndex, items.get(i));
+        }
+
+        if (isSingleItemReplaced) {
+            internalList.set(fromIndex, items.get(0));
+            persistentItems = persistentItems.with(fromIndex, items.get(0));
+            positions.onReplaced(replacedItems.get(0), items.get(0), fromIndex);
+        } else {
+            internalList.remove(fromIndex, toIndex);
+            internalList.addAll(fromIndex, items);
+            for (int i = fromIndex; i < toIndex; i++) {
+                persistentItems = persistentItems.minus(fromIndex);
+            }
+            for (int i = 0; i < items.size(); i++) {
+                persistentItems = persistentItems.plus(fromIndex + i, items.get(i));
+            }
+            positions.onRemoved(replacedItems, fromIndex);
+        }
+        replacedItems.forEach(this::onItemRemoved);
+        items.forEach(this::onItemAdded);
+    }
+
+    /**
+     * Called after {@code item} has been added to the list.
+     * Subclasses may override this to maintain their own secondary indexes.
+     */
+    protected void onItemAdded(T item) {}
+
+    /**
+     * Called after {@code item} has been removed from the list.
+     * Subclasses may override this to maintain their own secondary indexes.
+     */
+    protected void onItemRemoved(T item) {}
+
+    /**
+     * Called after each item in {@code replacedItems} has been replaced by the item at the same position in
+     * {@code editedItems}, leaving the other items in place.
+     * By default, this calls {@link #onItemRemoved(Object)} and {@link #onItemAdded(Object)} for each item.
+     * Subclasses may override this to update their own secondary indexes in bulk instead.
+     */
+    protected void onItemsReplaced(List<T> replacedItems, List<T> editedItems) {
+        replacedItems.forEach(this::onItemRemoved);
+        editedItems.forEach(this::onItemAdded);
+    }
+
+    /**
+     * Called after all the items in the list, {@code replacedItems}, have been replaced by {@code newItems}.
+     * By default, this calls {@link #onItemRemoved(Object)} and {@link #onItemAdded(Object)} for each item.
+     * Subclasses may override this to rebuild their own secondary indexes in bulk instead.
+     */
+    protected void onAllItemsReplaced(List<T> replacedItems, List<T> newItems) {
+        replacedItems.forEach(this::onItemRemoved);
+        newItems.forEach(this::onItemAdded);
+    }
+
+    /**
+     * Returns the item in the list whose identity key is equal to {@code identityKey}, if there is one.
+     */
+    protected Optional<T> getItemWithIdentityKey(Object identityKey) {
+        requireNonNull(identityKey);
+        return Optional.ofNullable(identityIndex.get(identityKey));
     }
 
     /**
@@ -115,6 +294,14 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns an immutable snapshot of the items in the list, in constant time.
+     * The snapshot is not affected by later changes to the list.
+     */
+    public PersistentList<T> asPersistentList() {
+        return persistentItems;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return internalList.iterator();
@@ -138,17 +325,66 @@ public abstract class UniqueList<T extends UniqueListItem<T>> implements Iterabl
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position in the list of the item equal to {@code item}, or -1 if there is none.
+     * Only the item with the same identity key as {@code item} can be equal to it, so only it is compared.
+     */
+    private int indexOf(T item) {
+        T candidate = identityIndex.get(item.getIdentityKey());
+        return item.equals(candidate) ? positions.positionOf(candidate) : -1;
+    }
+
     /**
      * Returns true if {@code items} contains only unique items.
      */
     protected boolean itemsAreUnique(List<T> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).isSame(items.get(j))) {
-                    return false;
-                }
+        return buildIndex(items) != null;
+    }
+
+    /**
+     * Builds an identity index of {@code items}.
+     *
+     * @return The identity index, or null if {@code items} contains weakly identical items.
+     */
+    private Map<Object, T> buildIndex(List<T> items) {
+        Map<Object, T> index = new HashMap<>();
+        for (T item : items) {
+            if (containsSame(index, item)) {
+                return null;
             }
+            addToIndex(index, item);
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns true if {@code index} contains an item that is weakly identical to {@code toCheck}.
+     */
+    private static <T extends UniqueListItem<T>> boolean containsSame(Map<Object, T> index, T toCheck) {
+        return index.containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Adds {@code item} to {@code index} under its identity key, which must not already be in {@code index}.
+     */
+    private static <T extends UniqueListItem<T>> void addToIndex(Map<Object, T> index, T item) {
+        T existingItem = index.putIfAbsent(item.getIdentityKey(), item);
+        assert existingItem == null : "Each identity key holds a single item.";
+    }
+
+    /**
+     * Replaces {@code target} in {@code index} with {@code editedItem}. {@code target} must exist in {@code index}.
+     */
+    private static <T extends UniqueListItem<T>> void replaceInIndex(Map<Object, T> index, T target, T editedItem) {
+        removeFromIndex(index, target);
+        addToIndex(index, editedItem);
+    }
+
+    /**
+     * Removes {@code item} from {@code index}. {@code item} must exist in {@code index}.
+     */
+    private static <T extends UniqueListItem<T>> void removeFromIndex(Map<Object, T> index, T item) {
+        T removedItem = index.remove(item.getIdentityKey());
+        assert removedItem == item : "Only the item in the list is removed from the index.";
     }
 }
@@ -15,4 +15,13 @@ public interface UniqueListItem<T extends UniqueListItem<T>> {
      * @return true iff both items are weakly identical.
      */
     boolean isSame(T other);
+
+    /**
+     * Returns a key that is used to index this item for hash-based lookups.
+     * Two items are weakly identical exactly when their identity keys are equal, i.e. {@code a.isSame(b)} if and
+     * only if {@code a.getIdentityKey().equals(b.getIdentityKey())}, so a UniqueList holds one item per key.
+     *
+     * @return The identity key of this item.
+     */
+    Object getIdentityKey();
 }
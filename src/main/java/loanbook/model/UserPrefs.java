@@ -16,6 +16,7 @@ public class UserPrefs {
     private String defaultEmail;
     private Path loanBookFilePath = Paths.get("data" , "loanbook.xml");
     private String passwordSalt;
+    private int undoLimit = VersionedLoanBook.DEFAULT_UNDO_LIMIT;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -50,6 +51,20 @@ public class UserPrefs {
         this.loanBookFilePath = loanBookFilePath;
     }
 
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    /**
+     * Sets the maximum number of commands which can be undone, which must not be negative.
+     */
+    public void setUndoLimit(int undoLimit) {
+        if (undoLimit < 0) {
+            throw new IllegalArgumentException("The undo limit must not be negative.");
+        }
+        this.undoLimit = undoLimit;
+    }
+
     public void setPass(Password pass) {
         password = pass.hashedPassword();
     }
@@ -84,12 +99,13 @@ public class UserPrefs {
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(password, o.password)
                 && Objects.equals(defaultEmail, o.defaultEmail)
-                && Objects.equals(loanBookFilePath, o.loanBookFilePath);
+                && Objects.equals(loanBookFilePath, o.loanBookFilePath)
+                && undoLimit == o.undoLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, loanBookFilePath);
+        return Objects.hash(guiSettings, loanBookFilePath, undoLimit);
     }
 
     @Override
@@ -99,6 +115,7 @@ public class UserPrefs {
         sb.append("Password : " + password);
         sb.append("My email address : " + defaultEmail);
         sb.append("\nLocal data file location : " + loanBookFilePath);
+        sb.append("\nUndo limit : " + undoLimit);
         return sb.toString();
     }
 
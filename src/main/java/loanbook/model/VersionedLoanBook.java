@@ -2,38 +2,92 @@ package loanbook.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 
 import loanbook.commons.util.CollectionUtil;
+import loanbook.model.bike.Bike;
 import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanIdManager;
 
 /**
  * {@code LoanBook} that keeps track of its own history.
+ * Instead of a copy of the loan book for every state, the history keeps the changes made between consecutive
+ * states, and {@code undo()}/{@code redo()} revert or reapply those changes.
+ * At most {@code undoLimit} states before the current state are kept.
  */
 public class VersionedLoanBook extends LoanBook {
 
-    private final List<ReadOnlyLoanBook> loanBookStateList;
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+
+    private final List<LoanBookDelta> loanBookDeltaList;
+    private final int undoLimit;
     private int currentStatePointer;
 
+    /** The bike and loan lists are kept here so that the listeners on them stay registered. */
+    private final ObservableList<Bike> observedBikeList;
+    private final ObservableList<Loan> observedLoanList;
+
+    private ListDelta<Bike> uncommittedBikeChanges = new ListDelta<>();
+    private ListDelta<Loan> uncommittedLoanChanges = new ListDelta<>();
+    private LoanIdManager committedLoanIdManager;
+    private boolean isRestoringState = false;
+
     public VersionedLoanBook(ReadOnlyLoanBook initialState) {
+        this(initialState, DEFAULT_UNDO_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedLoanBook} with the data in {@code initialState}, which keeps at most
+     * {@code undoLimit} states before its current state.
+     */
+    public VersionedLoanBook(ReadOnlyLoanBook initialState, int undoLimit) {
         super(initialState);
+        if (undoLimit < 0) {
+            throw new IllegalArgumentException("The undo limit must not be negative.");
+        }
 
-        loanBookStateList = new ArrayList<>();
-        loanBookStateList.add(new LoanBook(initialState));
+        this.undoLimit = undoLimit;
+        loanBookDeltaList = new ArrayList<>();
         currentStatePointer = 0;
+        committedLoanIdManager = getLoanIdManager();
+
+        observedBikeList = getBikeList();
+        observedLoanList = getLoanList();
+        observedBikeList.addListener((ListChangeListener.Change<? extends Bike> change) -> {
+            if (!isRestoringState) {
+                uncommittedBikeChanges.record(change);
+            }
+        });
+        observedLoanList.addListener((ListChangeListener.Change<? extends Loan> change) -> {
+            if (!isRestoringState) {
+                uncommittedLoanChanges.record(change);
+            }
+        });
     }
 
     /**
-     * Saves a copy of the current {@code LoanBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last saved state as a new state at the end of the state list.
+     * Undone states are removed from the state list, and the earliest state is removed if there are more than
+     * {@code undoLimit} states before the new state.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        loanBookStateList.add(new LoanBook(this));
+        loanBookDeltaList.add(new LoanBookDelta(uncommittedBikeChanges, uncommittedLoanChanges,
+                committedLoanIdManager, getLoanIdManager()));
         currentStatePointer++;
+        clearUncommittedChanges();
+
+        if (currentStatePointer > undoLimit) {
+            loanBookDeltaList.remove(0);
+            currentStatePointer--;
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
-        loanBookStateList.subList(currentStatePointer + 1, loanBookStateList.size()).clear();
+        loanBookDeltaList.subList(currentStatePointer, loanBookDeltaList.size()).clear();
     }
 
     /**
@@ -44,7 +98,7 @@ public class VersionedLoanBook extends LoanBook {
             throw new NoUndoableStateException();
         }
         currentStatePointer--;
-        replaceData(loanBookStateList.get(currentStatePointer));
+        restoreState(() -> loanBookDeltaList.get(currentStatePointer).revertFrom(this));
     }
 
     /**
@@ -54,8 +108,47 @@ public class VersionedLoanBook extends LoanBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        restoreState(() -> loanBookDeltaList.get(currentStatePointer).applyTo(this));
         currentStatePointer++;
-        replaceData(loanBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the loan book to its current state, discarding the changes made since the state was saved.
+     */
+    public void discardUncommittedChanges() {
+        restoreState(() -> {});
+    }
+
+    /**
+     * Discards the changes made since the last saved state, then runs {@code restoration} without recording
+     * the changes it makes.
+     */
+    private void restoreState(Runnable restoration) {
+        isRestoringState = true;
+        try {
+            uncommittedLoanChanges.applyInverse(this::replaceLoans);
+            uncommittedBikeChanges.applyInverse(this::replaceBikes);
+            setLoanIdManager(committedLoanIdManager);
+            restoration.run();
+        } finally {
+            isRestoringState = false;
+        }
+        clearUncommittedChanges();
+    }
+
+    /**
+     * Returns true if the bikes, loans or Loan ID Manager have changed since the last saved state.
+     */
+    public boolean hasUncommittedChanges() {
+        return !uncommittedBikeChanges.isEmpty()
+                || !uncommittedLoanChanges.isEmpty()
+                || !committedLoanIdManager.equals(getLoanIdManager());
+    }
+
+    private void clearUncommittedChanges() {
+        uncommittedBikeChanges = new ListDelta<>();
+        uncommittedLoanChanges = new ListDelta<>();
+        committedLoanIdManager = getLoanIdManager();
     }
 
     /**
@@ -69,7 +162,14 @@ public class VersionedLoanBook extends LoanBook {
      * Returns true if {@code redo()} has loan book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < loanBookStateList.size() - 1;
+        return currentStatePointer < loanBookDeltaList.size();
+    }
+
+    /**
+     * Returns the maximum number of states kept before the current state.
+     */
+    public int getUndoLimit() {
+        return undoLimit;
     }
 
     /**
@@ -84,8 +184,8 @@ public class VersionedLoanBook extends LoanBook {
         }
 
         return super.hasEqualEditableFields(other)
-                && CollectionUtil.testByElement(loanBookStateList, other.loanBookStateList,
-                        ReadOnlyLoanBook::hasEqualEditableFields)
+                && CollectionUtil.testByElement(loanBookDeltaList, other.loanBookDeltaList,
+                        LoanBookDelta::hasEqualEditableFields)
                 && currentStatePointer == other.currentStatePointer;
     }
 
@@ -105,10 +205,77 @@ public class VersionedLoanBook extends LoanBook {
 
         // state check
         return super.equals(otherVersionedLoanBook)
-                && loanBookStateList.equals(otherVersionedLoanBook.loanBookStateList)
+                && loanBookDeltaList.equals(otherVersionedLoanBook.loanBookDeltaList)
                 && currentStatePointer == otherVersionedLoanBook.currentStatePointer;
     }
 
+    /**
+     * The changes made to a {@code LoanBook} between two consecutive states in its history.
+     */
+    private static class LoanBookDelta {
+        private final ListDelta<Bike> bikeChanges;
+        private final ListDelta<Loan> loanChanges;
+        private final LoanIdManager loanIdManagerBefore;
+        private final LoanIdManager loanIdManagerAfter;
+
+        LoanBookDelta(ListDelta<Bike> bikeChanges, ListDelta<Loan> loanChanges,
+                      LoanIdManager loanIdManagerBefore, LoanIdManager loanIdManagerAfter) {
+            this.bikeChanges = bikeChanges;
+            this.loanChanges = loanChanges;
+            this.loanIdManagerBefore = loanIdManagerBefore;
+            this.loanIdManagerAfter = loanIdManagerAfter;
+        }
+
+        /**
+         * Changes {@code loanBook} from the earlier state to the later state.
+         */
+        void applyTo(LoanBook loanBook) {
+            bikeChanges.apply(loanBook::replaceBikes);
+            loanChanges.apply(loanBook::replaceLoans);
+            loanBook.setLoanIdManager(loanIdManagerAfter);
+        }
+
+        /**
+         * Changes {@code loanBook} from the later state back to the earlier state.
+         */
+        void revertFrom(LoanBook loanBook) {
+            loanChanges.applyInverse(loanBook::replaceLoans);
+            bikeChanges.applyInverse(loanBook::replaceBikes);
+            loanBook.setLoanIdManager(loanIdManagerBefore);
+        }
+
+        /**
+         * Checks if this delta is equal to the specified delta, but only compares the editable fields of the Loans.
+         */
+        boolean hasEqualEditableFields(LoanBookDelta other) {
+            return loanChanges.testByItem(other.loanChanges, Loan::hasEqualEditableFields)
+                    && bikeChanges.equals(other.bikeChanges)
+                    && loanIdManagerBefore.equals(other.loanIdManagerBefore)
+                    && loanIdManagerAfter.equals(other.loanIdManagerAfter);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true; // short circuit if same object
+            }
+            if (!(other instanceof LoanBookDelta)) { // instanceof handles nulls
+                return false;
+            }
+            LoanBookDelta otherDelta = (LoanBookDelta) other;
+
+            return loanChanges.equals(otherDelta.loanChanges)
+                    && bikeChanges.equals(otherDelta.bikeChanges)
+                    && loanIdManagerBefore.equals(otherDelta.loanIdManagerBefore)
+                    && loanIdManagerAfter.equals(otherDelta.loanIdManagerAfter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bikeChanges, loanChanges, loanIdManagerBefore, loanIdManagerAfter);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -58,6 +58,14 @@ public class Bike implements UniqueListItem<Bike> {
             && other.getName().equals(this.getName());
     }
 
+    /**
+     * Returns the name of this bike as its identity key, since bikes are identified by their names.
+     */
+    @Override
+    public Object getIdentityKey() {
+        return name.value;
+    }
+
     /**
      * Returns true if both bikes have the same identity and data fields.
      * This defines a stronger notion of equality between two bikes.
@@ -2,17 +2,27 @@ package loanbook.model.bike;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
+import loanbook.model.SortedSecondaryIndex;
 import loanbook.model.UniqueList;
 import loanbook.model.bike.exceptions.BikeNotFoundException;
 import loanbook.model.bike.exceptions.DuplicateBikeException;
 
 /**
  * A UniqueList of bikes.
+ *
+ * Bikes are additionally indexed by their lower-cased names in sorted order, so that all bikes whose names
+ * start with a given prefix can be found without scanning the whole list.
  */
 public class UniqueBikeList extends UniqueList<Bike> {
 
+    /** Indexes the bikes in the list by their lower-cased names. */
+    private final SortedSecondaryIndex<String, Bike> caseInsensitiveNameIndex =
+            new SortedSecondaryIndex<>(bike -> toIndexKey(bike.getName().value));
+
     protected void throwDuplicateException() throws DuplicateBikeException {
         throw new DuplicateBikeException();
     }
@@ -21,6 +31,16 @@ public class UniqueBikeList extends UniqueList<Bike> {
         throw new BikeNotFoundException();
     }
 
+    @Override
+    protected void onItemAdded(Bike bike) {
+        caseInsensitiveNameIndex.add(bike);
+    }
+
+    @Override
+    protected void onItemRemoved(Bike bike) {
+        caseInsensitiveNameIndex.remove(bike);
+    }
+
     /**
      * Returns a bike in the list whose name matches the given name.
      *
@@ -29,9 +49,28 @@ public class UniqueBikeList extends UniqueList<Bike> {
      */
     public Optional<Bike> getBike(String bikeName) {
         requireNonNull(bikeName);
-        return internalList.stream()
-                .filter(bike -> bike.getName().value.equals(bikeName))
-                .findFirst();
+        return getItemWithIdentityKey(bikeName);
     }
-}
 
+    /**
+     * Returns the bikes in the list whose names start with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix to search for. An empty prefix matches every bike.
+     * @return The matching bikes, sorted by their names ignoring case.
+     */
+    public List<Bike> getBikesWithNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        String fromKey = toIndexKey(prefix);
+        if (fromKey.isEmpty()) {
+            return caseInsensitiveNameIndex.getAll();
+        }
+        return caseInsensitiveNameIndex.getInRange(fromKey, true, fromKey + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the key under which a bike with the given name is indexed in {@code caseInsensitiveNameIndex}.
+     */
+    private static String toIndexKey(String bikeName) {
+        return bikeName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,6 +1,7 @@
 package loanbook.model.loan;
 
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Loan's email in the loan book.
@@ -24,6 +25,10 @@ public class Email extends DataField<String> implements Censor {
     private static final String DOMAIN_FIRST_CHARACTER_REGEX = "[^\\W_]"; // alphanumeric characters except underscore
     private static final String DOMAIN_MIDDLE_REGEX = "[a-zA-Z0-9.-]*"; // alphanumeric, period and hyphen
     private static final String DOMAIN_LAST_CHARACTER_REGEX = "[^\\W_]$";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(LOCAL_PART_REGEX + "@"
+            + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX);
+    // A valid gmail's local part should have at least 6 characters(alphabet, number, dot)
+    private static final Pattern GMAIL_PATTERN = Pattern.compile("^[a-z0-9](\\.?[a-zA-Z0-9]){5,}@gmail\\.com$");
 
     /**
      * Constructs an {@code Email}.
@@ -38,16 +43,14 @@ public class Email extends DataField<String> implements Censor {
      * Check if user's new {@code Email} is a valid Gmail.
      */
     public static boolean isValidGmail(String email) {
-        // A valid gmail's local part should have at least 6 characters(alphabet, number, dot)
-        return email.matches("^[a-z0-9](\\.?[a-zA-Z0-9]){5,}@gmail\\.com$");
+        return GMAIL_PATTERN.matcher(email).matches();
     }
 
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String objString) {
-        return objString.matches(LOCAL_PART_REGEX + "@"
-            + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX);
+        return EMAIL_PATTERN.matcher(objString).matches();
     }
 
     @Override
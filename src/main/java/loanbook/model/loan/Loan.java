@@ -32,6 +32,9 @@ public class Loan implements UniqueListItem<Loan> {
     private final Set<Tag> tags = new HashSet<>();
     private final LoanStatus loanStatus;
 
+    // The loan is immutable, so its hash code is computed once
+    private final int hashCode;
+
     /**
      * Default constructor.
      * Every field except endTime must be present and not null.
@@ -61,6 +64,7 @@ public class Loan implements UniqueListItem<Loan> {
         this.endTime = endTime;
         this.loanStatus = loanStatus;
         this.tags.addAll(tags);
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -183,21 +187,20 @@ public class Loan implements UniqueListItem<Loan> {
     }
 
     /**
-     * Returns true if both loans of the same name have at least one other identity field that is the same.
+     * Returns true if both loans have the same Loan ID.
+     * Every loan is given its own Loan ID, so loans with the same Loan ID are states of the same loan.
      */
     @Override
     public boolean isSame(Loan other) {
-        if (other == this) {
-            return true;
-        }
+        return other != null && other.getLoanId().equals(getLoanId());
+    }
 
-        return other != null
-                && other.getLoanId().equals(getLoanId())
-                && other.getName().equals(getName())
-                && other.getNric().equals(getNric())
-                && other.getBike().equals(getBike())
-                && (other.getEmail().equals(getEmail()) || other.getPhone().equals(getPhone())
-                || other.getLoanRate().equals(getLoanRate()) || other.getLoanStartTime().equals(getLoanStartTime()));
+    /**
+     * Returns the Loan ID of this loan as its identity key, since weakly identical loans share the same Loan ID.
+     */
+    @Override
+    public Object getIdentityKey() {
+        return id;
     }
 
     /**
@@ -222,15 +225,15 @@ public class Loan implements UniqueListItem<Loan> {
     }
 
     /**
-     * Calculates the cost of the current Loan, provided it has already been returned.
+     * Calculates the cost of the current Loan in whole cents, rounded down, provided it has already been returned.
      */
-    public double calculateCost() {
+    public long calculateCostCents() {
         assert(endTime != null);
         assert(loanStatus == LoanStatus.RETURNED);
 
         // Find the time the loan was taken out for, then pass it into LoanRate to get the cost.
         long timeLoaned = this.getLoanStartTime().loanTimeDifferenceMinutes(this.getLoanEndTime());
-        return this.getLoanRate().calculateCost(timeLoaned);
+        return this.getLoanRate().calculateCostCents(timeLoaned);
     }
 
     /**
@@ -248,7 +251,9 @@ public class Loan implements UniqueListItem<Loan> {
         }
 
         Loan otherLoan = (Loan) other;
+        // Loans with different IDs or hash codes cannot be equal, so most unequal loans are told apart here.
         return otherLoan.getLoanId().equals(getLoanId())
+                && otherLoan.hashCode == hashCode
                 && otherLoan.getName().equals(getName())
                 && otherLoan.getNric().equals(getNric())
                 && otherLoan.getPhone().equals(getPhone())
@@ -261,8 +266,25 @@ public class Loan implements UniqueListItem<Loan> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(id, name, nric, phone, email, bike, rate, startTime, endTime, loanStatus, tags);
+        return hashCode;
+    }
+
+    /**
+     * Returns a hash code of the fields compared in {@link #equals(Object)}, so that equal loans have equal
+     * hash codes. This is the same as {@code Objects.hash} of those fields, without creating an array.
+     */
+    private int computeHashCode() {
+        int result = 1;
+        result = 31 * result + id.hashCode();
+        result = 31 * result + name.hashCode();
+        result = 31 * result + nric.hashCode();
+        result = 31 * result + phone.hashCode();
+        result = 31 * result + email.hashCode();
+        result = 31 * result + Objects.hashCode(loanStatus);
+        result = 31 * result + bike.hashCode();
+        result = 31 * result + rate.hashCode();
+        result = 31 * result + tags.hashCode();
+        return result;
     }
 
     @Override
@@ -0,0 +1,156 @@
+package loanbook.model.loan;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A copy of the fields of a list of loans which are used for analysis, stored column by column in arrays
+ * of primitives. Scanning a column reads consecutive memory instead of following a chain of objects per loan,
+ * so statistics over many loans can be computed in tight loops or parallel streams over {@link #rows()}.
+ *
+ * Each loan is stored in the row with its position in the list. The columns are not changed once they are built,
+ * so they may be read from any thread, but they do not follow later changes to the list.
+ */
+public class LoanColumns {
+
+    /** The value of a time column for a loan which does not have that time. */
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final LoanStatus[] STATUSES = LoanStatus.values();
+
+    private final int[] ids;
+    private final long[] startMinutes;
+    private final long[] endMinutes;
+    private final long[] durationMinutes;
+    private final long[] rateCents;
+    private final byte[] statuses;
+    private final int[] bikeOrdinals;
+    private final int size;
+
+    /** The names of the bikes of the loans, by the ordinals stored in {@code bikeOrdinals}. */
+    private final List<String> bikeNames = new ArrayList<>();
+
+    /**
+     * Builds the columns of {@code loans}.
+     */
+    public LoanColumns(List<Loan> loans) {
+        requireNonNull(loans);
+        size = loans.size();
+        ids = new int[size];
+        startMinutes = new long[size];
+        endMinutes = new long[size];
+        durationMinutes = new long[size];
+        rateCents = new long[size];
+        statuses = new byte[size];
+        bikeOrdinals = new int[size];
+
+        Map<String, Integer> bikeOrdinalOfName = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            Loan loan = loans.get(row);
+            ids[row] = loan.getLoanId().value;
+            startMinutes[row] = toEpochMinutes(loan.getLoanStartTime());
+            endMinutes[row] = toEpochMinutes(loan.getLoanEndTime());
+            durationMinutes[row] = loan.getLoanEndTime() == null
+                    ? 0
+                    : loan.getLoanStartTime().loanTimeDifferenceMinutes(loan.getLoanEndTime());
+            rateCents[row] = loan.getLoanRate().getCentsPerHour();
+            statuses[row] = (byte) loan.getLoanStatus().ordinal();
+            bikeOrdinals[row] = bikeOrdinalOfName.computeIfAbsent(loan.getBike().getName().value, bikeName -> {
+                bikeNames.add(bikeName);
+                return bikeNames.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a stream of the indexes of all rows.
+     */
+    public IntStream rows() {
+        return IntStream.range(0, size);
+    }
+
+    public int getLoanId(int row) {
+        return ids[checkRow(row)];
+    }
+
+    /**
+     * Returns the start time of the loan in the row, in whole minutes since the epoch.
+     */
+    public long getStartMinutes(int row) {
+        return startMinutes[checkRow(row)];
+    }
+
+    /**
+     * Returns the end time of the loan in the row, in whole minutes since the epoch, or {@link #NO_TIME}.
+     */
+    public long getEndMinutes(int row) {
+        return endMinutes[checkRow(row)];
+    }
+
+    /**
+     * Returns the number of minutes the loan in the row was loaned out for, as given by
+     * {@link LoanTime#loanTimeDifferenceMinutes(LoanTime)}, or 0 if the loan has no end time.
+     */
+    public long getDurationMinutes(int row) {
+        return durationMinutes[checkRow(row)];
+    }
+
+    public long getRateCents(int row) {
+        return rateCents[checkRow(row)];
+    }
+
+    public LoanStatus getStatus(int row) {
+        return STATUSES[statuses[checkRow(row)]];
+    }
+
+    /**
+     * Returns the ordinal of the bike of the loan in the row, which can be converted back to the name of the bike
+     * with {@link #getBikeName(int)}.
+     */
+    public int getBikeOrdinal(int row) {
+        return bikeOrdinals[checkRow(row)];
+    }
+
+    /**
+     * Returns the name of the bike with the given ordinal.
+     */
+    public String getBikeName(int bikeOrdinal) {
+        return bikeNames.get(bikeOrdinal);
+    }
+
+    /**
+     * Returns the cost of the loan in the row in whole cents, rounded down, as given by
+     * {@link Loan#calculateCostCents()}. The loan must have been returned.
+     */
+    public long getCostCents(int row) {
+        return LoanRate.calculateCostCents(rateCents[checkRow(row)], durationMinutes[row]);
+    }
+
+    /**
+     * Returns {@code row} if it is the index of a row.
+     *
+     * @throws IndexOutOfBoundsException if there is no such row.
+     */
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+        return row;
+    }
+
+    private static long toEpochMinutes(LoanTime loanTime) {
+        return loanTime == null ? NO_TIME : loanTime.epochMinutes;
+    }
+}
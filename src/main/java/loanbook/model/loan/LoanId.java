@@ -1,10 +1,17 @@
 package loanbook.model.loan;
 
+import static java.util.Objects.requireNonNull;
+import static loanbook.commons.util.AppUtil.checkArgument;
+import static loanbook.commons.util.StringUtil.isAsciiDigits;
+
 /**
  * Represents a Loan's ID in the loan book.
  * Guarantees: immutable; is valid as declared in {@link #isValidLoanId(String)}
+ *
+ * Unlike the other fields of a loan, the ID is kept as a primitive {@code int} instead of a {@link DataField},
+ * since IDs are created for every loan that is added or loaded.
  */
-public class LoanId extends DataField<Integer> {
+public class LoanId {
     public static final String MESSAGE_LOANID_CONSTRAINTS = "Loan ID must be a non-negative integer with at least 1 "
             + "digit and no more than 9 digits.";
 
@@ -14,23 +21,52 @@ public class LoanId extends DataField<Integer> {
     public static final int MINIMUM_ID = 0;
     public static final int MAXIMUM_ID = 999999999;
 
+    private static final int MAXIMUM_DIGITS = 9;
+
+    /**
+     * Loan IDs are handed out in increasing order from {@code MINIMUM_ID}, so the IDs with the smallest values
+     * are the most used. The Loan IDs with values below this are created once and shared.
+     */
+    private static final int CACHE_SIZE = 4096;
+    private static final LoanId[] CACHE = new LoanId[CACHE_SIZE];
+
+    public final int value;
+
     /**
      * Constructs a {@code LoanId}.
      *
      * @param loanId A valid Loan ID.
      */
     public LoanId(String loanId) {
-        super(MESSAGE_LOANID_CONSTRAINTS, LoanId::isValidLoanId, Integer::parseInt, loanId);
+        requireNonNull(loanId);
+        checkArgument(isValidLoanId(loanId), MESSAGE_LOANID_CONSTRAINTS);
+        this.value = Integer.parseInt(loanId);
+    }
+
+    private LoanId(int value) {
+        this.value = value;
     }
 
     /**
-     * Creates a new Loan ID from an integer.
+     * Returns a Loan ID with the specified integer as the value, which may be a shared instance.
      *
      * @param value The value of the Loan ID.
      * @return A LoanID object with the specified integer as the value.
+     * @throws IllegalArgumentException if {@code value} is not a valid Loan ID.
      */
     public static LoanId fromInt(int value) {
-        return new LoanId(Integer.toString(value));
+        checkArgument(isValidLoanId(value), MESSAGE_LOANID_CONSTRAINTS);
+        if (value >= CACHE_SIZE) {
+            return new LoanId(value);
+        }
+
+        // Loan IDs are immutable, so a race here at worst creates an extra equal instance.
+        LoanId cached = CACHE[value];
+        if (cached == null) {
+            cached = new LoanId(value);
+            CACHE[value] = cached;
+        }
+        return cached;
     }
 
     /**
@@ -41,7 +77,8 @@ public class LoanId extends DataField<Integer> {
      * @return true if the specified string is a valid Loan ID.
      */
     public static boolean isValidLoanId(String objString) {
-        return objString.matches(VALIDATION_REGEX);
+        // Equivalent to matching VALIDATION_REGEX
+        return objString.length() <= MAXIMUM_DIGITS && isAsciiDigits(objString);
     }
 
     /**
@@ -63,4 +100,21 @@ public class LoanId extends DataField<Integer> {
     public boolean isMaximumId() {
         return value == MAXIMUM_ID;
     }
+
+    @Override
+    public String toString() {
+        return Integer.toString(value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LoanId // instanceof handles nulls
+                && value == ((LoanId) other).value);
+    }
 }
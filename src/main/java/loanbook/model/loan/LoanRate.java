@@ -1,32 +1,78 @@
 package loanbook.model.loan;
 
+import java.util.regex.Pattern;
+
 /**
- * Represents a Loan's rate in the loan book.
+ * Represents a Loan's rate in the loan book, kept as a whole number of cents per hour.
  * Guarantees: immutable; is valid as declared in {@link #isValidRate}
  */
-public class LoanRate extends DataField<Double> {
+public class LoanRate extends DataField<Long> {
 
     public static final String MESSAGE_LOANRATE_CONSTRAINTS =
             "Rate should be a valid real number that is not less than 0 and have at most 2 decimal places."
+                    + " It should have at most 15 digits before the decimal point."
                     + " e.g. 3.5 is a valid loan rate, but 03.5 is not.";
 
+    /*
+     * The rate is either 0 or does not start with 0, and may be followed by up to 2 decimal places.
+     * There are at most 15 digits before the decimal point, so that the rate in cents fits in a long.
+     */
+    public static final String LOANRATE_VALIDATION_REGEX = "^(0|[1-9]\\d{0,14})(\\.\\d{1,2})?$";
+
+    private static final Pattern LOANRATE_PATTERN = Pattern.compile(LOANRATE_VALIDATION_REGEX);
+    private static final int MINUTES_PER_HOUR = 60;
+
     /**
      * Constructs a {@code LoanRate}.
      *
      * @param rate A valid rate.
      */
     public LoanRate(String rate) {
-        super(MESSAGE_LOANRATE_CONSTRAINTS, LoanRate::isValidRate, Double::parseDouble, rate);
+        super(MESSAGE_LOANRATE_CONSTRAINTS, LoanRate::isValidRate, Money::parseCents, rate);
     }
 
     /**
      * Returns true if a given string is a valid rate.
      */
     public static boolean isValidRate(String test) {
-        return test.matches("^(([1-9]\\d*|0)|(([0]\\.\\d{1,2}|[1-9][0-9]*\\.\\d{1,2})))$");
+        return LOANRATE_PATTERN.matcher(test).matches();
     }
 
-    public double calculateCost (long minutes) {
-        return value * minutes / 60;
+    public long getCentsPerHour() {
+        return value;
+    }
+
+    /**
+     * Returns the cost in whole cents, rounded down, of loaning a bike for {@code minutes} minutes at this rate.
+     */
+    public long calculateCostCents(long minutes) {
+        return calculateCostCents(value, minutes);
+    }
+
+    /**
+     * Returns the cost in whole cents, rounded down, of loaning a bike for {@code minutes} minutes
+     * at {@code centsPerHour} cents per hour.
+     *
+     * @throws ArithmeticException if the cost does not fit in a {@code long}.
+     */
+    public static long calculateCostCents(long centsPerHour, long minutes) {
+        // Split the rate into whole cents per minute and the remainder, so that the intermediate products
+        // cannot overflow unless the cost itself does.
+        long wholeCentsPerMinute = Math.floorDiv(centsPerHour, MINUTES_PER_HOUR);
+        long remainderCentsPerHour = Math.floorMod(centsPerHour, MINUTES_PER_HOUR);
+        return Math.addExact(Math.multiplyExact(wholeCentsPerMinute, minutes),
+                Math.floorDiv(remainderCentsPerHour * minutes, MINUTES_PER_HOUR));
+    }
+
+    /**
+     * Returns the rate in dollars with one or two decimal places, e.g. "3.5" or "3.25".
+     */
+    @Override
+    public String toString() {
+        long dollars = value / Money.CENTS_PER_DOLLAR;
+        long cents = value % Money.CENTS_PER_DOLLAR;
+        return cents % 10 == 0
+                ? dollars + "." + (cents / 10)
+                : String.format("%d.%02d", dollars, cents);
     }
 }
@@ -1,20 +1,24 @@
 package loanbook.model.loan;
 
-import java.time.Duration;
+import static java.util.Objects.requireNonNull;
+import static loanbook.commons.util.AppUtil.checkArgument;
+
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
+import java.time.zone.ZoneRules;
 
 /**
- * Represents a timeStamp in the loan book.
+ * Represents a timeStamp in the loan book, to the minute.
  * Guarantees: immutable.
+ *
+ * The time is kept as a number of minutes since the epoch, so that comparing times and finding the time between
+ * them is done on primitives, and times are parsed and formatted without going through {@code java.time}
+ * whenever the system time zone has a fixed offset.
  */
-public class LoanTime extends DataField<Instant> {
+public class LoanTime implements Comparable<LoanTime> {
 
     public static final String MESSAGE_LOANTIME_CONSTRAINTS =
             "LoanTime specified has to be either in the format 'YYYY-MM-DD HH:mm' or 'HH:mm'. "
@@ -30,30 +34,40 @@ public class LoanTime extends DataField<Instant> {
      *
      * A short date version where only the date is specified
      * Format YYYY-MM-DD
+     *
+     * The formats are checked by hand instead of with these regexes.
      */
     public static final String LONG_LOANTIME_VALIDATION_REGEX = "^\\d{4}-\\d{2}-\\d{2} +\\d{2}:\\d{2}";
     public static final String SHORT_TIME_LOANTIME_VALIDATION_REGEX = "^\\d{2}:\\d{2}";
 
-    // Default patterns for Date and Time
-    private static final String DEFAULT_DATE_PATTERN = "uuuu-MM-dd";
-    private static final String DEFAULT_TIME_PATTERN = "HH:mm";
+    private static final int DATE_LENGTH = "uuuu-MM-dd".length();
+    private static final int TIME_LENGTH = "HH:mm".length();
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = HOURS_PER_DAY * MINUTES_PER_HOUR;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MILLIS_PER_MINUTE = SECONDS_PER_MINUTE * 1000;
 
-    // Formatter for Date and Time
-    private static final DateTimeFormatter DEFAULT_DATE_FORMATTER = DateTimeFormatter
-            .ofPattern(DEFAULT_DATE_PATTERN)
-            .withResolverStyle(ResolverStyle.STRICT);
-    private static final DateTimeFormatter DEFAULT_TIME_FORMATTER = DateTimeFormatter
-            .ofPattern(DEFAULT_TIME_PATTERN)
-            .withResolverStyle(ResolverStyle.STRICT);
+    /*
+     * The system time zone is looked up once. Most time zones, such as Singapore's, have had the same offset
+     * for as long as loans have been made, in which case the offset is used directly.
+     */
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final ZoneRules ZONE_RULES = ZONE.getRules();
+    private static final boolean IS_FIXED_OFFSET = ZONE_RULES.isFixedOffset();
+    private static final int FIXED_OFFSET_SECONDS =
+            IS_FIXED_OFFSET ? ZONE_RULES.getOffset(Instant.EPOCH).getTotalSeconds() : 0;
 
-    // Default pattern for DateTime
-    private static final String DEFAULT_DATETIME_PATTERN = "uuuu-MM-dd HH:mm";
+    /** The number of minutes from 1970-01-01T00:00Z to this time. */
+    public final long epochMinutes;
 
     /**
      * Constructs a {@code LoanTime} with value set at current time.
      */
     public LoanTime() {
-        super(MESSAGE_LOANTIME_CONSTRAINTS, emptyString -> true, emptyString -> Instant.now(), "");
+        epochMinutes = currentEpochMinutes();
     }
 
     /**
@@ -62,7 +76,9 @@ public class LoanTime extends DataField<Instant> {
      * @param loanTime A string to be parsed into a LoanTime
      */
     public LoanTime(String loanTime) {
-        super(MESSAGE_LOANTIME_CONSTRAINTS, LoanTime::isValidLoanTime, LoanTime::parseInstant, loanTime);
+        requireNonNull(loanTime);
+        checkArgument(isValidLoanTime(loanTime), MESSAGE_LOANTIME_CONSTRAINTS);
+        epochMinutes = parseEpochMinutes(loanTime);
     }
 
     /**
@@ -72,47 +88,43 @@ public class LoanTime extends DataField<Instant> {
      * @return true if the string can be parsed into a valid LoanTime instance
      */
     public static boolean isValidLoanTime(String objString) {
-        // First, check if the format is correct.
-        if (!isValidLongLoanTimeFormat(objString) && !isValidShortLoanTimeFormat(objString)) {
-            return false;
-        }
-
-        // Next, try and check for each case.
         if (isValidLongLoanTimeFormat(objString)) {
-            // The string contains the Date and Time.
-            String[] dateData = objString.split(" ");
-
-            assert dateData.length == 2;
-
-            String loanDateString = dateData[0];
-            String loanTimeString = dateData[1];
-
-            // Check if the Date and Time are valid.
-            return isValidDate(loanDateString) && isValidTime(loanTimeString);
+            // The string contains the Date and Time. Check if the Date and Time are valid.
+            return hasValidDateValues(objString) && hasValidTimeValues(objString, objString.length() - TIME_LENGTH);
         } else {
             // The string only contains the Time. Check if the Time is valid.
-            return isValidTime(objString);
+            return isValidShortLoanTimeFormat(objString) && hasValidTimeValues(objString, 0);
         }
     }
 
     /**
-     * Checks if a given string is a valid long LoanTime.
+     * Checks if a given string is a valid long LoanTime, as given by {@link #LONG_LOANTIME_VALIDATION_REGEX}.
      *
      * @param test The string to test
      * @return true if the string is a valid long LoanTime
      */
     public static boolean isValidLongLoanTimeFormat(String test) {
-        return test.matches(LONG_LOANTIME_VALIDATION_REGEX);
+        int timeIndex = test.length() - TIME_LENGTH;
+        if (timeIndex <= DATE_LENGTH || !isDateFormat(test)) {
+            return false;
+        }
+        for (int i = DATE_LENGTH; i < timeIndex; i++) {
+            if (test.charAt(i) != ' ') {
+                return false;
+            }
+        }
+        return isTimeFormat(test, timeIndex);
     }
 
     /**
-     * Checks if a given string is a valid short time LoanTime.
+     * Checks if a given string is a valid short time LoanTime,
+     * as given by {@link #SHORT_TIME_LOANTIME_VALIDATION_REGEX}.
      *
      * @param test The string to test
      * @return true if the string is a valid short LoanTime
      */
     public static boolean isValidShortLoanTimeFormat(String test) {
-        return test.matches(SHORT_TIME_LOANTIME_VALIDATION_REGEX);
+        return test.length() == TIME_LENGTH && isTimeFormat(test, 0);
     }
 
     /**
@@ -122,12 +134,7 @@ public class LoanTime extends DataField<Instant> {
      * @return true if the string is a valid Date
      */
     public static boolean isValidDate(String test) {
-        try {
-            DEFAULT_DATE_FORMATTER.parse(test);
-        } catch (DateTimeParseException e) {
-            return false;
-        }
-        return true;
+        return test.length() == DATE_LENGTH && isDateFormat(test) && hasValidDateValues(test);
     }
 
     /**
@@ -137,10 +144,7 @@ public class LoanTime extends DataField<Instant> {
      * @return true if the string is a valid Time
      */
     public static boolean isValidTime(String test) {
-        String[] timeData = test.split(":");
-        assert timeData.length == 2;
-
-        return (Integer.parseInt(timeData[0]) < 24) && (Integer.parseInt(timeData[1]) < 60);
+        return isValidShortLoanTimeFormat(test) && hasValidTimeValues(test, 0);
     }
 
     /**
@@ -163,7 +167,7 @@ public class LoanTime extends DataField<Instant> {
      * @param otherTime   LoanTime object to signify end of time interval.
      */
     public static long loanTimeDifferenceMinutes(LoanTime currentTime, LoanTime otherTime) {
-        long timeDifference = Duration.between(currentTime.value, otherTime.value).toMinutes();
+        long timeDifference = otherTime.epochMinutes - currentTime.epochMinutes;
         return (timeDifference >= 0) ? timeDifference : -1;
     }
 
@@ -171,7 +175,7 @@ public class LoanTime extends DataField<Instant> {
      * Checks if the current object is before {@code time}.
      */
     public boolean isBefore(LoanTime time) {
-        return value.isBefore(time.value);
+        return epochMinutes < time.epochMinutes;
     }
 
     /**
@@ -193,52 +197,152 @@ public class LoanTime extends DataField<Instant> {
     }
 
     /**
-     * Parses the specified string into an {@link Instant}. This method will use the current System
-     * time zone during the parsing process.
+     * Parses the specified valid string into a number of minutes since the epoch. This method will use the
+     * System time zone, and the current date in that time zone if the string only contains the Time.
      *
      * @param objString The string to parse
-     * @return The parsed {@link Instant}
+     * @return The number of minutes since the epoch
      */
-    private static Instant parseInstant(String objString) {
-        // If the string is not valid, throw an exception.
-        if (!isValidLoanTime(objString)) {
-            throw new IllegalArgumentException(MESSAGE_LOANTIME_CONSTRAINTS);
+    private static long parseEpochMinutes(String objString) {
+        long epochDay;
+        if (isValidLongLoanTimeFormat(objString)) {
+            epochDay = toEpochDay(parseDigits(objString, 0, 4), parseDigits(objString, 5, 7),
+                    parseDigits(objString, 8, 10));
+        } else {
+            // The date used shall be today's date.
+            epochDay = Math.floorDiv(toLocalMinutes(currentEpochMinutes()), MINUTES_PER_DAY);
         }
 
-        // Prepare the Date and Time fields.
-        LocalDate loanLocalDate;
-        LocalTime loanLocalTime;
+        int timeIndex = objString.length() - TIME_LENGTH;
+        int minuteOfDay = parseDigits(objString, timeIndex, timeIndex + 2) * MINUTES_PER_HOUR
+                + parseDigits(objString, timeIndex + 3, timeIndex + 5);
+        return toEpochMinutes(epochDay, minuteOfDay);
+    }
 
-        // Consider both cases.
-        if (isValidLongLoanTimeFormat(objString)) {
-            // Split by spaces to separate the Date and Time strings
-            String[] dateData = objString.split(" ");
+    private static long currentEpochMinutes() {
+        return Math.floorDiv(System.currentTimeMillis(), MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the number of minutes since the epoch of the time at {@code minuteOfDay} on {@code epochDay}
+     * in the System time zone.
+     */
+    private static long toEpochMinutes(long epochDay, int minuteOfDay) {
+        if (IS_FIXED_OFFSET) {
+            long localSeconds = (epochDay * MINUTES_PER_DAY + minuteOfDay) * SECONDS_PER_MINUTE;
+            return Math.floorDiv(localSeconds - FIXED_OFFSET_SECONDS, SECONDS_PER_MINUTE);
+        }
 
-            assert dateData.length == 2;
+        // Times in a gap or an overlap in the time zone are resolved by java.time.
+        // Historical offsets may include seconds, so round up to get back the same local minute in toLocalMinutes.
+        LocalDateTime localDateTime = LocalDate.ofEpochDay(epochDay).atStartOfDay().plusMinutes(minuteOfDay);
+        return -Math.floorDiv(-ZonedDateTime.of(localDateTime, ZONE).toEpochSecond(), SECONDS_PER_MINUTE);
+    }
 
-            // Obtain the Date and Time strings
-            String loanDateString = dateData[0];
-            String loanTimeString = dateData[1];
+    /**
+     * Returns the number of minutes since 1970-01-01T00:00 in the System time zone at the given time.
+     */
+    private static long toLocalMinutes(long epochMinutes) {
+        long epochSeconds = epochMinutes * SECONDS_PER_MINUTE;
+        int offsetSeconds = IS_FIXED_OFFSET
+                ? FIXED_OFFSET_SECONDS
+                : ZONE_RULES.getOffset(Instant.ofEpochSecond(epochSeconds)).getTotalSeconds();
+        return Math.floorDiv(epochSeconds + offsetSeconds, SECONDS_PER_MINUTE);
+    }
 
-            // Parse the Date and Time strings.
-            loanLocalDate = LocalDate.parse(loanDateString, DEFAULT_DATE_FORMATTER);
-            loanLocalTime = LocalTime.parse(loanTimeString, DEFAULT_TIME_FORMATTER);
-        } else {
-            // If the string does not match the LongLoanTimeFormat,
-            // then it should match the ShortLoanTimeFormat.
-            assert isValidShortLoanTimeFormat(objString);
+    /**
+     * Returns the number of days from 1970-01-01 to the given date in the proleptic Gregorian calendar.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        // Count years from March, so that the leap day is at the end of the year.
+        long adjustedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(adjustedYear, 400);
+        long yearOfEra = adjustedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
 
-            // The date used shall be today's date.
-            loanLocalDate = LocalDate.now();
-            // Parse the Time string.
-            loanLocalTime = LocalTime.parse(objString, DEFAULT_TIME_FORMATTER);
+    /**
+     * Returns true if the date at the start of {@code test}, which is in the format "dddd-dd-dd",
+     * is a valid date.
+     */
+    private static boolean hasValidDateValues(String test) {
+        int year = parseDigits(test, 0, 4);
+        int month = parseDigits(test, 5, 7);
+        int day = parseDigits(test, 8, 10);
+        return 1 <= month && month <= MONTHS_PER_YEAR && 1 <= day && day <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * Returns true if the time at {@code index} of {@code test}, which is in the format "dd:dd", is a valid time.
+     */
+    private static boolean hasValidTimeValues(String test, int index) {
+        return parseDigits(test, index, index + 2) < HOURS_PER_DAY
+                && parseDigits(test, index + 3, index + 5) < MINUTES_PER_HOUR;
+    }
+
+    /**
+     * Returns the number of days in the given month of the given year.
+     */
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            boolean isLeapYear = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+            return isLeapYear ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
         }
+    }
+
+    /**
+     * Returns true if {@code test} starts with a date in the format "dddd-dd-dd", where each d is a digit.
+     */
+    private static boolean isDateFormat(String test) {
+        return test.length() >= DATE_LENGTH
+                && isDigits(test, 0, 4) && test.charAt(4) == '-'
+                && isDigits(test, 5, 7) && test.charAt(7) == '-'
+                && isDigits(test, 8, 10);
+    }
+
+    /**
+     * Returns true if {@code test} ends with a time in the format "dd:dd" starting at {@code index}.
+     */
+    private static boolean isTimeFormat(String test, int index) {
+        return test.length() == index + TIME_LENGTH
+                && isDigits(test, index, index + 2) && test.charAt(index + 2) == ':'
+                && isDigits(test, index + 3, index + 5);
+    }
 
-        // Set the Time Zone as the System default time zone.
-        ZonedDateTime loanZonedDateTime = ZonedDateTime.of(loanLocalDate, loanLocalTime, ZoneId.systemDefault());
+    /**
+     * Returns true if the characters of {@code test} from {@code from} (inclusive) to {@code to} (exclusive)
+     * are all digits from 0 to 9.
+     */
+    private static boolean isDigits(String test, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        // Convert the ZonedDateTime into an Instant.
-        return Instant.from(loanZonedDateTime);
+    /**
+     * Returns the number written by the digits of {@code test} from {@code from} (inclusive)
+     * to {@code to} (exclusive).
+     */
+    private static int parseDigits(String test, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (test.charAt(i) - '0');
+        }
+        return value;
     }
 
     /**
@@ -248,18 +352,52 @@ public class LoanTime extends DataField<Instant> {
         return startLoanTime.isBefore(this) && this.isBefore(endLoanTime);
     }
 
+    @Override
+    public int compareTo(LoanTime other) {
+        return Long.compare(epochMinutes, other.epochMinutes);
+    }
+
     /**
      * Returns the YYYY-MM-DD, HH:MM representation of the stored LoanTime.
      * The format returned is "YYYY-MM-DD HH:MM".
      */
     @Override
     public String toString() {
-        // Create a DateTimeFormatter to format the Instant.
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter
-                .ofPattern(DEFAULT_DATETIME_PATTERN) // Set the pattern to be the default pattern.
-                .withZone(ZoneId.systemDefault()); // Set the time zone as the current time zone
+        long localMinutes = toLocalMinutes(epochMinutes);
+        long epochDay = Math.floorDiv(localMinutes, MINUTES_PER_DAY);
+        int minuteOfDay = Math.floorMod(localMinutes, MINUTES_PER_DAY);
+
+        // Convert the day back into a date, counting years from March as in toEpochDay.
+        long shiftedDay = epochDay + 719468;
+        long era = Math.floorDiv(shiftedDay, 146097);
+        long dayOfEra = shiftedDay - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        StringBuilder builder = new StringBuilder(DATE_LENGTH + 1 + TIME_LENGTH);
+        appendPadded(builder, year, 4).append('-');
+        appendPadded(builder, month, 2).append('-');
+        appendPadded(builder, day, 2).append(' ');
+        appendPadded(builder, minuteOfDay / MINUTES_PER_HOUR, 2).append(':');
+        appendPadded(builder, minuteOfDay % MINUTES_PER_HOUR, 2);
+        return builder.toString();
+    }
 
-        return dateTimeFormatter.format(value);
+    /**
+     * Appends {@code value}, which is not negative, to {@code builder} with leading zeroes to make up
+     * at least {@code width} digits.
+     */
+    private static StringBuilder appendPadded(StringBuilder builder, long value, int width) {
+        for (long limit = 10; width > 1; width--, limit *= 10) {
+            if (value < limit) {
+                builder.append('0');
+            }
+        }
+        return builder.append(value);
     }
 
     @Override
@@ -272,7 +410,11 @@ public class LoanTime extends DataField<Instant> {
             return false;
         }
 
-        return this.value.getEpochSecond() == ((LoanTime) other).value.getEpochSecond();
+        return this.epochMinutes == ((LoanTime) other).epochMinutes;
+    }
 
+    @Override
+    public int hashCode() {
+        return Long.hashCode(epochMinutes);
     }
 }
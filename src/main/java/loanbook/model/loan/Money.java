@@ -0,0 +1,48 @@
+package loanbook.model.loan;
+
+import static loanbook.commons.util.StringUtil.isAsciiDigits;
+
+/**
+ * Helper functions for amounts of money, which are kept as a whole number of cents in a {@code long}
+ * so that adding up and comparing amounts is exact.
+ */
+public final class Money {
+
+    public static final int CENTS_PER_DOLLAR = 100;
+
+    private static final int DECIMAL_PLACES = 2;
+
+    private Money() {} // prevents instantiation
+
+    /**
+     * Returns the number of cents in {@code amount}, a non-negative number of dollars written as digits with
+     * at most 2 decimal places, e.g. "12", "12.5" or "12.05".
+     *
+     * @throws NumberFormatException if {@code amount} is not written in that format.
+     * @throws ArithmeticException if the number of cents does not fit in a {@code long}.
+     */
+    public static long parseCents(String amount) {
+        int pointIndex = amount.indexOf('.');
+        String dollars = pointIndex < 0 ? amount : amount.substring(0, pointIndex);
+        String cents = pointIndex < 0 ? "" : amount.substring(pointIndex + 1);
+        if (dollars.isEmpty() || cents.length() > DECIMAL_PLACES || (pointIndex >= 0 && cents.isEmpty())
+                || !isAsciiDigits(dollars) || !(cents.isEmpty() || isAsciiDigits(cents))) {
+            throw new NumberFormatException("Not an amount of money: " + amount);
+        }
+
+        long centsPart = 0;
+        for (int i = 0; i < DECIMAL_PLACES; i++) {
+            centsPart = centsPart * 10 + (i < cents.length() ? cents.charAt(i) - '0' : 0);
+        }
+        return Math.addExact(Math.multiplyExact(Long.parseLong(dollars), CENTS_PER_DOLLAR), centsPart);
+    }
+
+    /**
+     * Returns {@code cents} written in dollars with exactly 2 decimal places, e.g. "12.50".
+     */
+    public static String format(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s%d.%02d", sign, absoluteCents / CENTS_PER_DOLLAR, absoluteCents % CENTS_PER_DOLLAR);
+    }
+}
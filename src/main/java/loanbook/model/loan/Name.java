@@ -1,6 +1,7 @@
 package loanbook.model.loan;
 
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Loan's name in the loan book.
@@ -12,6 +13,12 @@ public class Name extends DataField<String> {
             "Names should start with an alphanumeric character, and contain "
             + "only contain alphanumeric characters, spaces, and the characters ' - , . .";
 
+    /*
+     * The first character of the name must not be a whitespace,
+     * otherwise " " (a blank string) becomes a valid input.
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9 \\-,.']*");
+
     /**
      * Constructs a {@code Name}.
      *
@@ -25,11 +32,7 @@ public class Name extends DataField<String> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String objString) {
-        /*
-         * The first character of the name must not be a whitespace,
-         * otherwise " " (a blank string) becomes a valid input.
-         */
-        return objString.matches("[A-Za-z0-9][A-Za-z0-9 \\-,.']*");
+        return NAME_PATTERN.matcher(objString).matches();
     }
 
 }
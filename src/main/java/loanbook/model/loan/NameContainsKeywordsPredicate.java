@@ -1,6 +1,9 @@
 package loanbook.model.loan;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import loanbook.commons.util.StringUtil;
@@ -22,6 +25,31 @@ public class NameContainsKeywordsPredicate implements Predicate<Name> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(name.value, keyword));
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the distinct words in {@code name}, lower-cased by {@link #toLowerCaseWord(String)}.
+     * A name matches a keyword iff the lower-cased keyword is one of these words.
+     */
+    public static Set<String> toLowerCaseWords(Name name) {
+        Set<String> words = new HashSet<>();
+        for (String word : name.value.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(toLowerCaseWord(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} in lower case, so that words can be compared ignoring case.
+     */
+    public static String toLowerCaseWord(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
     public Predicate<Bike> forBikes() {
         return bike -> test(bike.getName());
     }
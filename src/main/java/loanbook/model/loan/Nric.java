@@ -3,6 +3,8 @@ package loanbook.model.loan;
 import static java.util.Objects.requireNonNull;
 import static loanbook.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Class that stores the NRIC of a person.
  */
@@ -14,6 +16,8 @@ public class Nric implements Censor {
 
     public static final String NRIC_VALIDATION_REGEX = "^[ST]\\d{7}[A-JZ]|[FG]\\d{7}[K-NPQRTUWX]$";
 
+    private static final Pattern NRIC_PATTERN = Pattern.compile(NRIC_VALIDATION_REGEX);
+
     public final String nric;
 
     /**
@@ -35,7 +39,7 @@ public class Nric implements Censor {
     public static boolean isValidNric(String test) {
         String ic = test.toUpperCase();
 
-        if (!ic.matches(NRIC_VALIDATION_REGEX)) {
+        if (!NRIC_PATTERN.matcher(ic).matches()) {
             return false;
         }
 
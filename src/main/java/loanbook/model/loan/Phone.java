@@ -1,5 +1,7 @@
 package loanbook.model.loan;
 
+import static loanbook.commons.util.StringUtil.isAsciiDigits;
+
 import java.util.function.Function;
 
 /**
@@ -11,6 +13,8 @@ public class Phone extends DataField<String> implements Censor {
     public static final String MESSAGE_PHONE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
 
+    private static final int MINIMUM_DIGITS = 3;
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -24,7 +28,8 @@ public class Phone extends DataField<String> implements Censor {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String objString) {
-        return objString.matches("\\d{3,}");
+        // Equivalent to matching the regex "\\d{3,}"
+        return objString.length() >= MINIMUM_DIGITS && isAsciiDigits(objString);
     }
 
     @Override
@@ -0,0 +1,135 @@
+package loanbook.model.loan;
+
+import java.util.Objects;
+
+/**
+ * Class to encapsulate all the statistics to be kept track of.
+ * Loans can be removed from a summary as well as added to it, so that a summary can be kept up to date
+ * as the loans change instead of being recomputed.
+ *
+ * Only returned loans with an end time count towards the revenue. A loan in a data file may be returned or
+ * deleted without an end time, and such a loan has no cost.
+ */
+public class Summary {
+    public static final String MESSAGE_SUMMARY = "You have loaned %1$d loan(s). "
+            + "You have %2$d loan(s) ongoing.\n"
+            + "Your total revenue is $%3$s.";
+
+    private int numLoans;
+    private int numLoansInProgress;
+    /** The total revenue in cents, which is kept exact as loans are added and removed. */
+    private long totalRevenueCents;
+
+    public Summary() {
+        numLoans = 0;
+        numLoansInProgress = 0;
+        totalRevenueCents = 0;
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public Summary(Summary toBeCopied) {
+        numLoans = toBeCopied.numLoans;
+        numLoansInProgress = toBeCopied.numLoansInProgress;
+        totalRevenueCents = toBeCopied.totalRevenueCents;
+    }
+
+    /**
+     * Creates a summary of the loans in {@code columns}.
+     */
+    public Summary(LoanColumns columns) {
+        this();
+        for (int row = 0; row < columns.size(); row++) {
+            numLoans++;
+            LoanStatus status = columns.getStatus(row);
+            if (status == LoanStatus.ONGOING) {
+                numLoansInProgress++;
+            } else if (hasRevenue(status, columns.getEndMinutes(row) != LoanColumns.NO_TIME)) {
+                totalRevenueCents += columns.getCostCents(row);
+            }
+        }
+    }
+
+    /**
+     * Adds the statistics of a loan into the summary object.
+     */
+    public void addLoan(Loan loan) {
+        numLoans++;
+        if (loan.getLoanStatus() == LoanStatus.ONGOING) {
+            numLoansInProgress++;
+        } else if (hasRevenue(loan)) {
+            totalRevenueCents += loan.calculateCostCents();
+        }
+    }
+
+    /**
+     * Removes the statistics of a loan, which was previously added, from the summary object.
+     */
+    public void removeLoan(Loan loan) {
+        numLoans--;
+        if (loan.getLoanStatus() == LoanStatus.ONGOING) {
+            numLoansInProgress--;
+        } else if (hasRevenue(loan)) {
+            totalRevenueCents -= loan.calculateCostCents();
+        }
+    }
+
+    private static boolean hasRevenue(Loan loan) {
+        return hasRevenue(loan.getLoanStatus(), loan.getLoanEndTime() != null);
+    }
+
+    /**
+     * Returns true if a loan with {@code status} counts towards the revenue, given whether it has an end time.
+     */
+    private static boolean hasRevenue(LoanStatus status, boolean hasEndTime) {
+        return status == LoanStatus.RETURNED && hasEndTime;
+    }
+
+    /**
+     * Removes the statistics of all loans from the summary object.
+     */
+    public void clear() {
+        numLoans = 0;
+        numLoansInProgress = 0;
+        totalRevenueCents = 0;
+    }
+
+    public int getNumLoans() {
+        return numLoans;
+    }
+
+    public int getNumLoansInProgress() {
+        return numLoansInProgress;
+    }
+
+    public long getTotalRevenueCents() {
+        return totalRevenueCents;
+    }
+
+    public String getSummary() {
+        return String.format(MESSAGE_SUMMARY,
+                getNumLoans(),
+                getNumLoansInProgress(),
+                Money.format(getTotalRevenueCents()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Summary)) {
+            return false;
+        }
+        Summary otherSummary = (Summary) other;
+        return numLoans == otherSummary.numLoans
+                && numLoansInProgress == otherSummary.numLoansInProgress
+                && totalRevenueCents == otherSummary.totalRevenueCents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numLoans, numLoansInProgress, totalRevenueCents);
+    }
+}
@@ -1,23 +1,302 @@
 package loanbook.model.loan;
 
+import static java.util.Objects.requireNonNull;
+import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import loanbook.model.PositionIndex;
+import loanbook.model.SecondaryIndex;
+import loanbook.model.SortedSecondaryIndex;
 import loanbook.model.UniqueList;
+import loanbook.model.bike.Bike;
 import loanbook.model.loan.exceptions.DuplicateLoanException;
 import loanbook.model.loan.exceptions.LoanNotFoundException;
 
 /**
  * A UniqueList of loans.
+ *
+ * Loans are additionally indexed by the names of their bikes, separately for ongoing and returned loans,
+ * by the NRICs of their customers, and by the words in their names, so that the loans of a bike or a customer,
+ * or with a given name, can be found without scanning the list. Loans are also indexed in order of their start
+ * times, and returned loans in order of their end times, so that the loans within a time range can be found
+ * without scanning the list.
+ *
+ * The ongoing and returned loans are also kept in separate observable lists, so that views which only show
+ * loans with one status do not need to filter the whole list. The position of each loan in its partition is
+ * kept too, so that a loan can be removed from its partition without searching it.
  */
 public class UniqueLoanList extends UniqueList<Loan> {
 
+    private final SecondaryIndex<String, Loan> ongoingLoansByBike =
+            new SecondaryIndex<>(loan -> getBikeKeyIfStatus(loan, LoanStatus.ONGOING));
+    private final SecondaryIndex<String, Loan> returnedLoansByBike =
+            new SecondaryIndex<>(loan -> getBikeKeyIfStatus(loan, LoanStatus.RETURNED));
+    private final SecondaryIndex<Nric, Loan> loansByCustomer = new SecondaryIndex<>(Loan::getNric);
+    private final SecondaryIndex<String, Loan> loansByNameWord = SecondaryIndex.withMultipleKeys(
+        loan -> NameContainsKeywordsPredicate.toLowerCaseWords(loan.getName()));
+    private final SortedSecondaryIndex<LoanTime, Loan> loansByStartTime =
+            new SortedSecondaryIndex<>(Loan::getLoanStartTime);
+    private final SortedSecondaryIndex<LoanTime, Loan> returnedLoansByEndTime =
+            new SortedSecondaryIndex<>(UniqueLoanList::getEndTimeKeyIfReturned);
+    private final List<SecondaryIndex<?, Loan>> secondaryIndexes = List.of(ongoingLoansByBike, returnedLoansByBike,
+            loansByCustomer, loansByNameWord, loansByStartTime, returnedLoansByEndTime);
+
+    /** The ongoing loans in the list, in the order they were added or became ongoing. */
+    private final ObservableList<Loan> ongoingLoans = FXCollections.observableArrayList();
+    /** The returned loans in the list, in the order they were added or returned. */
+    private final ObservableList<Loan> returnedLoans = FXCollections.observableArrayList();
+    /** The position of each loan in {@code ongoingLoans}. */
+    private final PositionIndex<Loan> ongoingLoanPositions = new PositionIndex<>(ongoingLoans);
+    /** The position of each loan in {@code returnedLoans}. */
+    private final PositionIndex<Loan> returnedLoanPositions = new PositionIndex<>(returnedLoans);
+    /** The statistics of all the loans in the list. */
+    private final Summary summary = new Summary();
+    /** The fields of all the loans in the list, stored by column, or null if the list changed since they were built. */
+    private LoanColumns columns = null;
+
+    /**
+     * Returns the ongoing loans in the list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Loan> asUnmodifiableOngoingLoanList() {
+        return FXCollections.unmodifiableObservableList(ongoingLoans);
+    }
+
+    /**
+     * Returns the returned loans in the list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Loan> asUnmodifiableReturnedLoanList() {
+        return FXCollections.unmodifiableObservableList(returnedLoans);
+    }
+
+    /**
+     * Returns a copy of the statistics of all the loans in the list.
+     */
+    public Summary getSummary() {
+        return new Summary(summary);
+    }
+
+    /**
+     * Returns the fields of all the loans in the list, stored by column.
+     * The columns are only built when they are asked for after the list has changed, so changes to the list do
+     * not pay for keeping them up to date.
+     */
+    public LoanColumns getColumns() {
+        if (columns == null) {
+            columns = new LoanColumns(internalList);
+        }
+        return columns;
+    }
+
     /**
      * Returns the loan whose Loan ID matches the specified Loan ID, if it exists.
+     * Loans are indexed by their Loan ID, so this does not scan the list.
      */
     public Optional<Loan> getLoanById(LoanId loanId) {
-        return internalList.stream()
-                .filter(loan -> loan.getLoanId().equals(loanId))
-                .findFirst();
+        requireNonNull(loanId);
+        return getItemWithIdentityKey(loanId);
+    }
+
+    /**
+     * Returns an unmodifiable view of the ongoing loans of {@code bike}.
+     */
+    public List<Loan> getOngoingLoansOfBike(Bike bike) {
+        requireNonNull(bike);
+        return ongoingLoansByBike.get(bike.getName().value);
+    }
+
+    /**
+     * Returns an unmodifiable view of the returned loans of {@code bike}.
+     */
+    public List<Loan> getReturnedLoansOfBike(Bike bike) {
+        requireNonNull(bike);
+        return returnedLoansByBike.get(bike.getName().value);
+    }
+
+    /**
+     * Returns an unmodifiable view of the loans of the customer with the given NRIC, in the order they were added.
+     */
+    public List<Loan> getLoansOfCustomer(Nric nric) {
+        requireNonNull(nric);
+        return loansByCustomer.get(nric);
+    }
+
+    /**
+     * Returns the loans whose names contain any of {@code keywords} as a full word, ignoring case.
+     * Each loan is returned once, even if its name contains more than one of the keywords.
+     */
+    public List<Loan> getLoansWithNameKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Loan> matchingLoans = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Loan> matchingLoansInOrder = new ArrayList<>();
+        for (String keyword : keywords) {
+            String word = NameContainsKeywordsPredicate.toLowerCaseWord(keyword.trim());
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            for (Loan loan : loansByNameWord.get(word)) {
+                if (matchingLoans.add(loan)) {
+                    matchingLoansInOrder.add(loan);
+                }
+            }
+        }
+        return matchingLoansInOrder;
+    }
+
+    /**
+     * Returns an upper bound on the number of loans whose names contain any of {@code keywords} as a full word,
+     * without finding them. A loan whose name contains more than one of the keywords is counted once for each.
+     */
+    public int countLoansWithNameKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<String> words = new HashSet<>();
+        int count = 0;
+        for (String keyword : keywords) {
+            String word = NameContainsKeywordsPredicate.toLowerCaseWord(keyword.trim());
+            if (!word.isEmpty() && words.add(word)) {
+                count += loansByNameWord.count(word);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the loans which started strictly between {@code startTime} and {@code endTime},
+     * sorted by their start times.
+     */
+    public List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        requireAllNonNull(startTime, endTime);
+        return loansByStartTime.getInRange(startTime, false, endTime, false);
+    }
+
+    /**
+     * Returns the number of loans which started strictly between {@code startTime} and {@code endTime},
+     * without finding them.
+     */
+    public int countLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        requireAllNonNull(startTime, endTime);
+        return loansByStartTime.countInRange(startTime, false, endTime, false);
+    }
+
+    /**
+     * Returns the returned loans which ended strictly between {@code startTime} and {@code endTime},
+     * sorted by their end times.
+     */
+    public List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        requireAllNonNull(startTime, endTime);
+        return returnedLoansByEndTime.getInRange(startTime, false, endTime, false);
+    }
+
+    /**
+     * Returns the number of returned loans which ended strictly between {@code startTime} and {@code endTime},
+     * without finding them.
+     */
+    public int countLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        requireAllNonNull(startTime, endTime);
+        return returnedLoansByEndTime.countInRange(startTime, false, endTime, false);
+    }
+
+    @Override
+    protected void onItemAdded(Loan loan) {
+        for (SecondaryIndex<?, Loan> secondaryIndex : secondaryIndexes) {
+            secondaryIndex.add(loan);
+        }
+        summary.addLoan(loan);
+        columns = null;
+
+        ObservableList<Loan> statusPartition = getStatusPartition(loan);
+        if (statusPartition != null) {
+            statusPartition.add(loan);
+            getPositionsInPartition(statusPartition).onAppended(loan);
+        }
+    }
+
+    @Override
+    protected void onItemRemoved(Loan loan) {
+        for (SecondaryIndex<?, Loan> secondaryIndex : secondaryIndexes) {
+            secondaryIndex.remove(loan);
+        }
+        summary.removeLoan(loan);
+        columns = null;
+
+        ObservableList<Loan> statusPartition = getStatusPartition(loan);
+        if (statusPartition != null) {
+            PositionIndex<Loan> positionsInPartition = getPositionsInPartition(statusPartition);
+            int position = positionsInPartition.positionOf(loan);
+            statusPartition.remove(position);
+            positionsInPartition.onRemoved(Collections.singletonList(loan), position);
+        }
+    }
+
+    @Override
+    protected void onItemsReplaced(List<Loan> replacedLoans, List<Loan> editedLoans) {
+        for (SecondaryIndex<?, Loan> secondaryIndex : secondaryIndexes) {
+            secondaryIndex.removeAll(replacedLoans);
+            editedLoans.forEach(secondaryIndex::add);
+        }
+        replacedLoans.forEach(summary::removeLoan);
+        editedLoans.forEach(summary::addLoan);
+        columns = null;
+
+        // Rebuild each partition which changed in a single pass, as removing the loans one by one would scan
+        // the partition once for each loan.
+        Set<Loan> replacedLoanSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        replacedLoanSet.addAll(replacedLoans);
+        for (ObservableList<Loan> statusPartition : List.of(ongoingLoans, returnedLoans)) {
+            boolean isPartitionChanged = Stream.concat(replacedLoans.stream(), editedLoans.stream())
+                    .anyMatch(loan -> getStatusPartition(loan) == statusPartition);
+            if (!isPartitionChanged) {
+                continue;
+            }
+
+            List<Loan> newPartition = new ArrayList<>(statusPartition.size());
+            statusPartition.stream().filter(loan -> !replacedLoanSet.contains(loan)).forEach(newPartition::add);
+            editedLoans.stream().filter(loan -> getStatusPartition(loan) == statusPartition)
+                    .forEach(newPartition::add);
+            statusPartition.setAll(newPartition);
+            getPositionsInPartition(statusPartition).clear();
+        }
+    }
+
+    @Override
+    protected void onAllItemsReplaced(List<Loan> replacedLoans, List<Loan> newLoans) {
+        List<Loan> newOngoingLoans = new ArrayList<>();
+        List<Loan> newReturnedLoans = new ArrayList<>();
+        for (SecondaryIndex<?, Loan> secondaryIndex : secondaryIndexes) {
+            secondaryIndex.clear();
+        }
+        summary.clear();
+        columns = null;
+
+        for (Loan loan : newLoans) {
+            for (SecondaryIndex<?, Loan> secondaryIndex : secondaryIndexes) {
+                secondaryIndex.add(loan);
+            }
+            summary.addLoan(loan);
+
+            if (loan.getLoanStatus() == LoanStatus.ONGOING) {
+                newOngoingLoans.add(loan);
+            } else if (loan.getLoanStatus() == LoanStatus.RETURNED) {
+                newReturnedLoans.add(loan);
+            }
+        }
+
+        // Replace each partition in one go, so that its listeners only see a single change
+        ongoingLoans.setAll(newOngoingLoans);
+        returnedLoans.setAll(newReturnedLoans);
+        ongoingLoanPositions.clear();
+        returnedLoanPositions.clear();
     }
 
     protected void throwDuplicateException() throws DuplicateLoanException {
@@ -27,4 +306,40 @@ public class UniqueLoanList extends UniqueList<Loan> {
     protected void throwNotFoundException() throws LoanNotFoundException {
         throw new LoanNotFoundException();
     }
+
+    /**
+     * Returns the partition of loans with the same status as {@code loan}, or null if there is no such partition.
+     */
+    private ObservableList<Loan> getStatusPartition(Loan loan) {
+        switch (loan.getLoanStatus()) {
+        case ONGOING:
+            return ongoingLoans;
+        case RETURNED:
+            return returnedLoans;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the positions of the loans in {@code statusPartition}, which is one of the partitions of loans.
+     */
+    private PositionIndex<Loan> getPositionsInPartition(ObservableList<Loan> statusPartition) {
+        return statusPartition == ongoingLoans ? ongoingLoanPositions : returnedLoanPositions;
+    }
+
+    /**
+     * Returns the name of the bike of {@code loan} if the loan has the given status, or null otherwise.
+     */
+    private static String getBikeKeyIfStatus(Loan loan, LoanStatus status) {
+        return loan.getLoanStatus() == status ? loan.getBike().getName().value : null;
+    }
+
+    /**
+     * Returns the end time of {@code loan} if the loan has been returned, or null otherwise.
+     */
+    private static LoanTime getEndTimeKeyIfReturned(Loan loan) {
+        LoanTime endTime = loan.getLoanEndTime();
+        return loan.getLoanStatus() == LoanStatus.RETURNED ? endTime : null;
+    }
 }
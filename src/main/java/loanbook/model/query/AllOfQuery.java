@@ -0,0 +1,64 @@
+package loanbook.model.query;
+
+import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import loanbook.model.loan.Loan;
+
+/**
+ * Tests that a {@code Loan} satisfies all of the queries given.
+ * A combination of no queries is satisfied by every loan.
+ * Queries which are themselves combinations are flattened, so that every conjunct can be looked up in an index.
+ */
+public class AllOfQuery extends LoanQuery {
+
+    private final List<LoanQuery> conjuncts;
+
+    public AllOfQuery(List<LoanQuery> conjuncts) {
+        requireAllNonNull(conjuncts);
+        List<LoanQuery> flattenedConjuncts = new ArrayList<>();
+        for (LoanQuery conjunct : conjuncts) {
+            flattenedConjuncts.addAll(conjunct.getConjuncts());
+        }
+        this.conjuncts = Collections.unmodifiableList(flattenedConjuncts);
+    }
+
+    @Override
+    public boolean test(Loan loan) {
+        for (LoanQuery conjunct : conjuncts) {
+            if (!conjunct.test(loan)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<LoanQuery> getConjuncts() {
+        return conjuncts;
+    }
+
+    @Override
+    public String toString() {
+        if (conjuncts.isEmpty()) {
+            return "all loans";
+        }
+        return conjuncts.stream().map(LoanQuery::toString).collect(Collectors.joining(" and "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllOfQuery // instanceof handles nulls
+                && conjuncts.equals(((AllOfQuery) other).conjuncts)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return conjuncts.hashCode();
+    }
+}
@@ -0,0 +1,76 @@
+package loanbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import loanbook.model.Model;
+import loanbook.model.bike.Bike;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanStatus;
+import loanbook.model.loan.Name;
+
+/**
+ * Tests that a {@code Loan} is an ongoing or returned loan of the bike with the name given.
+ * Deleted loans are not matched, since they are not indexed by their bikes.
+ * Uses the indexes of ongoing and returned loans by the names of their bikes.
+ */
+public class BikeQuery extends LoanQuery {
+
+    private final Name bikeName;
+
+    public BikeQuery(Name bikeName) {
+        requireNonNull(bikeName);
+        this.bikeName = bikeName;
+    }
+
+    @Override
+    public boolean test(Loan loan) {
+        LoanStatus status = loan.getLoanStatus();
+        return (status == LoanStatus.ONGOING || status == LoanStatus.RETURNED)
+                && bikeName.equals(loan.getBike().getName());
+    }
+
+    @Override
+    public Optional<String> getIndexName() {
+        return Optional.of("bike");
+    }
+
+    @Override
+    public OptionalInt estimateCount(Model model) {
+        Bike bike = new Bike(bikeName);
+        return OptionalInt.of(model.getOngoingLoansOfBike(bike).size() + model.getReturnedLoansOfBike(bike).size());
+    }
+
+    @Override
+    public Optional<List<Loan>> lookUp(Model model) {
+        // The indexes only use the name of the bike, so the bike need not be in the bike list.
+        Bike bike = new Bike(bikeName);
+        List<Loan> ongoingLoans = model.getOngoingLoansOfBike(bike);
+        List<Loan> returnedLoans = model.getReturnedLoansOfBike(bike);
+        List<Loan> loansOfBike = new ArrayList<>(ongoingLoans.size() + returnedLoans.size());
+        loansOfBike.addAll(ongoingLoans);
+        loansOfBike.addAll(returnedLoans);
+        return Optional.of(loansOfBike);
+    }
+
+    @Override
+    public String toString() {
+        return "bike is " + bikeName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BikeQuery // instanceof handles nulls
+                && bikeName.equals(((BikeQuery) other).bikeName)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return bikeName.hashCode();
+    }
+}
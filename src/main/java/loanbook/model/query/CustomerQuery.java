@@ -0,0 +1,62 @@
+package loanbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import loanbook.model.Model;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.Nric;
+
+/**
+ * Tests that a {@code Loan} was made by the customer with the NRIC given.
+ * Uses the index of loans by the NRICs of their customers.
+ */
+public class CustomerQuery extends LoanQuery {
+
+    private final Nric nric;
+
+    public CustomerQuery(Nric nric) {
+        requireNonNull(nric);
+        this.nric = nric;
+    }
+
+    @Override
+    public boolean test(Loan loan) {
+        return nric.equals(loan.getNric());
+    }
+
+    @Override
+    public Optional<String> getIndexName() {
+        return Optional.of("customer");
+    }
+
+    @Override
+    public OptionalInt estimateCount(Model model) {
+        return OptionalInt.of(model.getLoansOfCustomer(nric).size());
+    }
+
+    @Override
+    public Optional<List<Loan>> lookUp(Model model) {
+        return Optional.of(model.getLoansOfCustomer(nric));
+    }
+
+    @Override
+    public String toString() {
+        return "NRIC is " + nric;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CustomerQuery // instanceof handles nulls
+                && nric.equals(((CustomerQuery) other).nric)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return nric.hashCode();
+    }
+}
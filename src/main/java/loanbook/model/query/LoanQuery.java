@@ -0,0 +1,86 @@
+package loanbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import loanbook.model.Model;
+import loanbook.model.loan.Loan;
+
+/**
+ * A condition on loans which, unlike an arbitrary {@code Predicate<Loan>}, can be inspected to find out
+ * what it tests, so that the loans which satisfy it can be found using the indexes of the model
+ * instead of testing every loan.
+ *
+ * Queries are combined with {@link #and(LoanQuery)}. Each query also describes itself in
+ * {@link #toString()}, which is shown to the user when a query plan is explained.
+ */
+public abstract class LoanQuery implements Predicate<Loan> {
+
+    /**
+     * Returns a query which is satisfied by every loan.
+     */
+    public static LoanQuery all() {
+        return new AllOfQuery(Collections.emptyList());
+    }
+
+    /**
+     * Returns a query which is satisfied by the loans that satisfy all of {@code queries}.
+     */
+    public static LoanQuery allOf(List<LoanQuery> queries) {
+        AllOfQuery combinedQuery = new AllOfQuery(queries);
+        List<LoanQuery> conjuncts = combinedQuery.getConjuncts();
+        return conjuncts.size() == 1 ? conjuncts.get(0) : combinedQuery;
+    }
+
+    /**
+     * Returns a query which is satisfied by the loans that satisfy both this query and {@code other}.
+     */
+    public LoanQuery and(LoanQuery other) {
+        requireNonNull(other);
+        return allOf(Arrays.asList(this, other));
+    }
+
+    /**
+     * Returns the queries which a loan must all satisfy to satisfy this query.
+     * A query which is not a combination of other queries is its only conjunct.
+     */
+    public List<LoanQuery> getConjuncts() {
+        return Collections.singletonList(this);
+    }
+
+    /**
+     * Returns the name of the index of the model which {@link #lookUp(Model)} uses, if there is one.
+     */
+    public Optional<String> getIndexName() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an estimate of the number of loans which {@link #lookUp(Model)} gives, if this query has an index.
+     * The estimate is read from the index without finding the loans, so that a query plan can choose which
+     * conjunct to look up before looking any of them up. It is never less than the number of loans looked up.
+     */
+    public OptionalInt estimateCount(Model model) {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns exactly the loans in the loan book of {@code model} which satisfy this query, found using the index
+     * named by {@link #getIndexName()}, or an empty {@code Optional} if this query has no index.
+     */
+    public Optional<List<Loan>> lookUp(Model model) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a description of the loans which satisfy this query, e.g. "status is Ongoing".
+     */
+    @Override
+    public abstract String toString();
+}
@@ -0,0 +1,62 @@
+package loanbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import loanbook.model.Model;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.NameContainsKeywordsPredicate;
+
+/**
+ * Tests that the name of a {@code Loan} contains any of the keywords given, as in
+ * {@link NameContainsKeywordsPredicate}. Uses the index of loans by the words in their names.
+ */
+public class NameQuery extends LoanQuery {
+
+    private final NameContainsKeywordsPredicate predicate;
+
+    public NameQuery(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Loan loan) {
+        return predicate.test(loan.getName());
+    }
+
+    @Override
+    public Optional<String> getIndexName() {
+        return Optional.of("name word");
+    }
+
+    @Override
+    public OptionalInt estimateCount(Model model) {
+        return OptionalInt.of(model.countLoansWithNameKeywords(predicate.getKeywords()));
+    }
+
+    @Override
+    public Optional<List<Loan>> lookUp(Model model) {
+        return Optional.of(model.getLoansWithNameKeywords(predicate.getKeywords()));
+    }
+
+    @Override
+    public String toString() {
+        return "name contains any of " + predicate.getKeywords();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameQuery // instanceof handles nulls
+                && predicate.equals(((NameQuery) other).predicate)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.getKeywords().hashCode();
+    }
+}
@@ -0,0 +1,103 @@
+package loanbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import loanbook.model.loan.Loan;
+
+/**
+ * The way the loans which satisfy a {@code LoanQuery} are found: either by looking up one of its conjuncts
+ * in an index and testing only the loans found against the remaining conjuncts, or by testing every loan.
+ */
+public class QueryPlan {
+
+    private final LoanQuery query;
+    private final LoanQuery indexedConjunct;
+    private final List<Loan> candidates;
+    private final LoanQuery residualQuery;
+
+    /**
+     * Creates a plan which tests every loan against {@code query}.
+     */
+    public QueryPlan(LoanQuery query) {
+        requireNonNull(query);
+        this.query = query;
+        this.indexedConjunct = null;
+        this.candidates = null;
+        this.residualQuery = query;
+    }
+
+    /**
+     * Creates a plan which looks up {@code indexedConjunct} of {@code query} in its index, which gives
+     * {@code candidates}, and tests the candidates against {@code residualQuery}.
+     */
+    public QueryPlan(LoanQuery query, LoanQuery indexedConjunct, List<Loan> candidates, LoanQuery residualQuery) {
+        requireAllNonNull(query, indexedConjunct, candidates, residualQuery);
+        this.query = query;
+        this.indexedConjunct = indexedConjunct;
+        this.candidates = Collections.unmodifiableList(candidates);
+        this.residualQuery = residualQuery;
+    }
+
+    public LoanQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the conjunct of the query which is looked up in an index, or an empty {@code Optional}
+     * if every loan is tested.
+     */
+    public Optional<LoanQuery> getIndexedConjunct() {
+        return Optional.ofNullable(indexedConjunct);
+    }
+
+    /**
+     * Returns the loans found in the index, which satisfy the indexed conjunct.
+     *
+     * @throws IllegalStateException if the plan does not use an index.
+     */
+    public List<Loan> getCandidates() {
+        if (candidates == null) {
+            throw new IllegalStateException("The plan does not use an index.");
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the query which the loans must still be tested against, after any index lookup.
+     */
+    public LoanQuery getResidualQuery() {
+        return residualQuery;
+    }
+
+    /**
+     * Returns true if the loans must still be tested against a residual query.
+     */
+    public boolean hasResidualQuery() {
+        return !residualQuery.getConjuncts().isEmpty();
+    }
+
+    /**
+     * Returns a description of how the loans are found, for the user.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Query: ").append(query).append("\nPlan: ");
+        if (indexedConjunct == null) {
+            builder.append(hasResidualQuery() ? "scan all loans for: " + residualQuery : "show all loans");
+            return builder.toString();
+        }
+
+        builder.append("look up ").append(indexedConjunct)
+                .append(" in the ").append(indexedConjunct.getIndexName().get()).append(" index")
+                .append(" (").append(candidates.size()).append(" loans)");
+        if (hasResidualQuery()) {
+            builder.append(", then check them for: ").append(residualQuery);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package loanbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import loanbook.model.Model;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanStatus;
+
+/**
+ * Tests that a {@code Loan} has the status given.
+ * Uses the lists of ongoing and returned loans; deleted loans are not kept in a separate list.
+ */
+public class StatusQuery extends LoanQuery {
+
+    private final LoanStatus status;
+
+    public StatusQuery(LoanStatus status) {
+        requireNonNull(status);
+        this.status = status;
+    }
+
+    @Override
+    public boolean test(Loan loan) {
+        return loan.getLoanStatus() == status;
+    }
+
+    @Override
+    public Optional<String> getIndexName() {
+        return status == LoanStatus.DELETED ? Optional.empty() : Optional.of("status");
+    }
+
+    @Override
+    public OptionalInt estimateCount(Model model) {
+        return lookUp(model).map(loans -> OptionalInt.of(loans.size())).orElse(OptionalInt.empty());
+    }
+
+    @Override
+    public Optional<List<Loan>> lookUp(Model model) {
+        switch (status) {
+        case ONGOING:
+            return Optional.of(model.getOngoingLoanList());
+        case RETURNED:
+            return Optional.of(model.getReturnedLoanList());
+        default:
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "status is " + status;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatusQuery // instanceof handles nulls
+                && status == ((StatusQuery) other).status); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return status.hashCode();
+    }
+}
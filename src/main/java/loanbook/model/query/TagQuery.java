@@ -0,0 +1,42 @@
+package loanbook.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import loanbook.model.loan.Loan;
+import loanbook.model.tag.Tag;
+
+/**
+ * Tests that a {@code Loan} has the tag given.
+ * Loans are not indexed by their tags, so this query is always answered by testing every loan.
+ */
+public class TagQuery extends LoanQuery {
+
+    private final Tag tag;
+
+    public TagQuery(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    @Override
+    public boolean test(Loan loan) {
+        return loan.getTags().contains(tag);
+    }
+
+    @Override
+    public String toString() {
+        return "tagged " + tag;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagQuery // instanceof handles nulls
+                && tag.equals(((TagQuery) other).tag)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+}
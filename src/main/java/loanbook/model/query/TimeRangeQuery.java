@@ -0,0 +1,93 @@
+package loanbook.model.query;
+
+import static loanbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import loanbook.model.Model;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanStatus;
+import loanbook.model.loan.LoanTime;
+
+/**
+ * Tests that a {@code Loan} started, or was returned, strictly between the times given.
+ * Uses the index of loans by their start times, or of returned loans by their end times.
+ */
+public class TimeRangeQuery extends LoanQuery {
+
+    /**
+     * The time of a loan which is tested.
+     */
+    public enum TimeOfLoan {
+        STARTED, ENDED
+    }
+
+    private final TimeOfLoan timeOfLoan;
+    private final LoanTime startTime;
+    private final LoanTime endTime;
+
+    public TimeRangeQuery(TimeOfLoan timeOfLoan, LoanTime startTime, LoanTime endTime) {
+        requireAllNonNull(timeOfLoan, startTime, endTime);
+        this.timeOfLoan = timeOfLoan;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @Override
+    public boolean test(Loan loan) {
+        if (timeOfLoan == TimeOfLoan.STARTED) {
+            return loan.getLoanStartTime().isBetweenRange(startTime, endTime);
+        }
+        return loan.getLoanStatus() == LoanStatus.RETURNED
+                && loan.getLoanEndTime() != null
+                && loan.getLoanEndTime().isBetweenRange(startTime, endTime);
+    }
+
+    @Override
+    public Optional<String> getIndexName() {
+        return Optional.of(timeOfLoan == TimeOfLoan.STARTED ? "start time" : "end time");
+    }
+
+    @Override
+    public OptionalInt estimateCount(Model model) {
+        return OptionalInt.of(timeOfLoan == TimeOfLoan.STARTED
+                ? model.countLoansStartedBetween(startTime, endTime)
+                : model.countLoansEndedBetween(startTime, endTime));
+    }
+
+    @Override
+    public Optional<List<Loan>> lookUp(Model model) {
+        return Optional.of(timeOfLoan == TimeOfLoan.STARTED
+                ? model.getLoansStartedBetween(startTime, endTime)
+                : model.getLoansEndedBetween(startTime, endTime));
+    }
+
+    @Override
+    public String toString() {
+        return (timeOfLoan == TimeOfLoan.STARTED ? "started" : "ended") + " between " + startTime + " and " + endTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TimeRangeQuery)) {
+            return false;
+        }
+
+        TimeRangeQuery otherQuery = (TimeRangeQuery) other;
+        return timeOfLoan == otherQuery.timeOfLoan
+                && startTime.equals(otherQuery.startTime)
+                && endTime.equals(otherQuery.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timeOfLoan, startTime, endTime);
+    }
+}
@@ -72,7 +72,9 @@ public class SampleDataUtil {
         LoanId lastUsedLoanId = (sampleLoans.length > 1 ? sampleLoans[sampleLoans.length - 1].getLoanId() : null);
 
         for (Loan sampleLoan : sampleLoans) {
-            sampleLb.addLoan(sampleLoan);
+            // Refer to the bike in the bike list instead of a copy of it
+            Bike bike = sampleLb.getBike(sampleLoan.getBike().getName().value).orElse(sampleLoan.getBike());
+            sampleLb.addLoan(new Loan(sampleLoan, bike));
         }
 
         sampleLb.setLoanIdManager(new LoanIdManager(lastUsedLoanId));
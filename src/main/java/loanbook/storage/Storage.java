@@ -31,9 +31,16 @@ public interface Storage extends LoanBookStorage, UserPrefsStorage {
     void saveLoanBook(ReadOnlyLoanBook loanBook) throws IOException;
 
     /**
-     * Saves the current version of the Loan Book to the hard disk.
+     * Saves the current version of the Loan Book to the hard disk in the background, together with the other
+     * changes made before it is saved.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleLoanBookChangedEvent(LoanBookChangedEvent abce);
+
+    /**
+     * Saves the latest version of the Loan Book if it has not been saved yet, and returns after it is saved.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void flushLoanBook();
 }
@@ -3,20 +3,31 @@ package loanbook.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import loanbook.commons.core.ComponentManager;
+import loanbook.commons.core.Config;
 import loanbook.commons.core.LogsCenter;
 import loanbook.commons.events.model.LoanBookChangedEvent;
 import loanbook.commons.events.storage.DataSavingExceptionEvent;
 import loanbook.commons.exceptions.DataConversionException;
+import loanbook.commons.util.StringUtil;
+import loanbook.model.LoanBookSnapshot;
 import loanbook.model.ReadOnlyLoanBook;
 import loanbook.model.UserPrefs;
 
 /**
  * Manages storage of LoanBook data in local storage.
+ *
+ * Changes to the loan book are saved behind the thread which made them: each change keeps a
+ * {@link LoanBookSnapshot} of the loan book, which shares the immutable mirrors of its lists instead of copying
+ * them, and a single background thread saves the latest snapshot once the save delay has passed since the first
+ * change which has not been saved, so that a burst of changes is saved once.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -24,11 +35,31 @@ public class StorageManager extends ComponentManager implements Storage {
     private LoanBookStorage loanBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "LoanBook saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Held while a loan book is saved, so that saves happen one at a time and in the order of the changes. */
+    private final Object saveLock = new Object();
+    /** The snapshot of the loan book from the latest change which has not been saved, or null if there is none. */
+    private ReadOnlyLoanBook unsavedLoanBook = null;
+    private boolean isSaveScheduled = false;
 
     public StorageManager(LoanBookStorage loanBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(loanBookStorage, userPrefsStorage, Config.DEFAULT_LOAN_BOOK_SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code StorageManager} which saves changes to the loan book at most {@code saveDelayMillis}
+     * milliseconds after they are made.
+     */
+    public StorageManager(LoanBookStorage loanBookStorage, UserPrefsStorage userPrefsStorage, long saveDelayMillis) {
         super();
         this.loanBookStorage = loanBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayMillis = saveDelayMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -83,10 +114,47 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleLoanBookChangedEvent(LoanBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveLoanBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        // The loan book keeps changing on the thread which raised the event, so the snapshot is taken here.
+        ReadOnlyLoanBook loanBook = new LoanBookSnapshot(event.data);
+        synchronized (this) {
+            unsavedLoanBook = loanBook;
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        saveExecutor.schedule(this::saveUnsavedLoanBook, saveDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void flushLoanBook() {
+        saveUnsavedLoanBook();
+    }
+
+    /**
+     * Saves the snapshot of the loan book from the latest change, if it has not been saved.
+     * Raises {@link DataSavingExceptionEvent} if there was any exception or error during saving.
+     */
+    private void saveUnsavedLoanBook() {
+        synchronized (saveLock) {
+            ReadOnlyLoanBook loanBook;
+            synchronized (this) {
+                loanBook = unsavedLoanBook;
+                unsavedLoanBook = null;
+                isSaveScheduled = false;
+            }
+            if (loanBook == null) {
+                return;
+            }
+
+            try {
+                saveLoanBook(loanBook);
+            } catch (IOException | RuntimeException | Error e) {
+                // The save usually runs on the saver thread, where anything thrown would be lost with its task,
+                // so every failure is reported here instead.
+                logger.severe("Failed to save loan book " + StringUtil.getDetails(e));
+                raise(new DataSavingExceptionEvent(e));
+            }
         }
     }
 
@@ -1,10 +1,12 @@
 package loanbook.storage;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -122,7 +124,7 @@ public class XmlAdaptedLoan {
      */
     private void checkFieldValid(
             String field,
-            Class fieldClass,
+            Class<?> fieldClass,
             Predicate<String> isValid,
             String msgConstraints) throws IllegalValueException {
 
@@ -134,6 +136,32 @@ public class XmlAdaptedLoan {
         }
     }
 
+    /**
+     * Returns the data field constructed from {@code field} by {@code constructor}.
+     * The constructor validates {@code field}, so it is not validated a second time beforehand.
+     *
+     * @param field The data field of the Loan class to convert.
+     * @param fieldClass The class which the data field should belong to.
+     * @param constructor A constructor which throws an {@code IllegalArgumentException} with a message to display
+     *                    to the user if {@code field} is not valid.
+     *
+     * @throws IllegalValueException if {@code field} does not exist or is not valid.
+     */
+    private static <T> T toModelField(
+            String field,
+            Class<?> fieldClass,
+            Function<String, T> constructor) throws IllegalValueException {
+
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
+        }
+        try {
+            return constructor.apply(field);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
     /**
      * Throws an {@link IllegalValueException} if {@code id} does not exist.
      *
@@ -147,40 +175,37 @@ public class XmlAdaptedLoan {
     }
 
     /**
-     * Throws an {@code IllegalValueException} if {@code startTime} does not exist or is not valid.
-     *
-     * @throws IllegalValueException
+     * Returns {@code rate} written as a plain decimal number if it is in the scientific notation which earlier
+     * versions of the loan book saved large rates in (e.g. "1.5E7"), or {@code rate} itself otherwise.
      */
-    private void checkLoanStartTimeValid() throws IllegalValueException {
-        if (startTime == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    LoanTime.class.getSimpleName()));
+    private static String migrateLegacyRate(String rate) {
+        if (rate == null || rate.indexOf('E') < 0) {
+            return rate;
         }
-        if (!LoanTime.isValidLoanTime(startTime)) {
-            throw new IllegalValueException(LoanTime.MESSAGE_LOANTIME_CONSTRAINTS);
+        try {
+            BigDecimal decimal = new BigDecimal(rate).stripTrailingZeros();
+            return (decimal.scale() < 0 ? decimal.setScale(0) : decimal).toPlainString();
+        } catch (NumberFormatException nfe) {
+            return rate; // Not a number, so leave it to fail validation.
         }
     }
 
     /**
-     * Throws an {@code IllegalValueException} if {@code endTime} does not exist or is not valid.
+     * Converts this jaxb-friendly adapted loan object into the model's Loan object, with a new bike.
      *
-     * @throws IllegalValueException
+     * @throws IllegalValueException if there were any data constraints violated in the adapted loan
      */
-    private void checkLoanEndTimeValid() throws IllegalValueException {
-        if (endTime == null) {
-            return; // Because endTime can be null
-        }
-        if (!LoanTime.isValidLoanTime(endTime)) {
-            throw new IllegalValueException(LoanTime.MESSAGE_LOANTIME_CONSTRAINTS);
-        }
+    public Loan toModelType() throws IllegalValueException {
+        return toModelType(Bike::new);
     }
 
     /**
-     * Converts this jaxb-friendly adapted loan object into the model's Loan object.
+     * Converts this jaxb-friendly adapted loan object into the model's Loan object, with the bike returned by
+     * {@code bikeOfName} for the name of its bike. This allows loans of the same bike to share one {@code Bike}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted loan
      */
-    public Loan toModelType() throws IllegalValueException {
+    public Loan toModelType(Function<Name, Bike> bikeOfName) throws IllegalValueException {
         final List<Tag> loanTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             loanTags.add(tag.toModelType());
@@ -189,33 +214,22 @@ public class XmlAdaptedLoan {
         checkLoanIdValid();
         final LoanId modelId = id.toModelType();
 
-        checkFieldValid(name, Name.class, Name::isValidName, Name.MESSAGE_NAME_CONSTRAINTS);
-        final Name modelName = new Name(name);
-
-        checkFieldValid(nric, Nric.class, Nric::isValidNric, Nric.MESSAGE_NRIC_CONSTRAINTS);
-        final Nric modelNric = new Nric(nric);
-
-        checkFieldValid(phone, Phone.class, Phone::isValidPhone, Phone.MESSAGE_PHONE_CONSTRAINTS);
-        final Phone modelPhone = new Phone(phone);
-
-        checkFieldValid(email, Email.class, Email::isValidEmail, Email.MESSAGE_EMAIL_CONSTRAINTS);
-        final Email modelEmail = new Email(email);
+        final Name modelName = toModelField(name, Name.class, Name::new);
+        final Nric modelNric = toModelField(nric, Nric.class, Nric::new);
+        final Phone modelPhone = toModelField(phone, Phone.class, Phone::new);
+        final Email modelEmail = toModelField(email, Email.class, Email::new);
 
         checkFieldValid(loanStatus, LoanStatus.class, LoanStatus::isValidLoanStatus,
             LoanStatus.MESSAGE_LOANSTATUS_CONSTRAINTS);
         final LoanStatus modelLoanStatus = LoanStatus.valueOf(loanStatus);
 
-        checkFieldValid(bike, Bike.class, Name::isValidName, Name.MESSAGE_NAME_CONSTRAINTS);
-        final Bike modelBike = new Bike(new Name(bike));
-
-        checkFieldValid(rate, LoanRate.class, LoanRate::isValidRate, LoanRate.MESSAGE_LOANRATE_CONSTRAINTS);
-        final LoanRate modelRate = new LoanRate(rate);
+        final Bike modelBike = bikeOfName.apply(toModelField(bike, Bike.class, Name::new));
+        final LoanRate modelRate = toModelField(migrateLegacyRate(rate), LoanRate.class, LoanRate::new);
 
-        checkLoanStartTimeValid();
-        final LoanTime modelStartTime = new LoanTime(startTime);
+        final LoanTime modelStartTime = toModelField(startTime, LoanTime.class, LoanTime::new);
 
-        checkLoanEndTimeValid();
-        final LoanTime modelEndTime = endTime == null ? null : new LoanTime(endTime);
+        // endTime can be null
+        final LoanTime modelEndTime = endTime == null ? null : toModelField(endTime, LoanTime.class, LoanTime::new);
 
         final Set<Tag> modelTags = new HashSet<>(loanTags);
         return new Loan(modelId,
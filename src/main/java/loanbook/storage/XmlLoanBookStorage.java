@@ -2,7 +2,6 @@ package loanbook.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -42,8 +41,7 @@ public class XmlLoanBookStorage implements LoanBookStorage {
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyLoanBook> readLoanBook(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+    public Optional<ReadOnlyLoanBook> readLoanBook(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -51,9 +49,8 @@ public class XmlLoanBookStorage implements LoanBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableLoanBook xmlLoanBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlLoanBook.toModelType());
+            return Optional.of(XmlStreamFileStorage.loadLoanBook(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +71,7 @@ public class XmlLoanBookStorage implements LoanBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableLoanBook(loanBook));
+        XmlStreamFileStorage.saveLoanBook(filePath, loanBook);
     }
 
 }
@@ -1,8 +1,10 @@
 package loanbook.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -61,17 +63,20 @@ public class XmlSerializableLoanBook {
      */
     public LoanBook toModelType() throws IllegalValueException {
         LoanBook loanBook = new LoanBook();
+        Map<String, Bike> bikesByName = new HashMap<>();
         for (XmlAdaptedBike p : bikes) {
             Bike bike = p.toModelType();
             if (loanBook.hasBike(bike)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_BIKE);
             }
             loanBook.addBike(bike);
+            bikesByName.put(bike.getName().value, bike);
         }
 
+        // Loans of the same bike share a single Bike, which is the one in the bike list if there is one.
         ArrayList<Loan> modelLoans = new ArrayList<>();
         for (XmlAdaptedLoan p : loans) {
-            modelLoans.add(p.toModelType());
+            modelLoans.add(p.toModelType(name -> bikesByName.computeIfAbsent(name.value, unused -> new Bike(name))));
         }
 
         LoanIdManager modelIdManager = loanIdManager.toModelType();
@@ -140,6 +145,14 @@ public class XmlSerializableLoanBook {
             }
         }
 
+        return isLoanIdManagerInLegalState(loanIdManager, maximumObservedLoanId);
+    }
+
+    /**
+     * Checks if the specified Loan ID Manager is in a legal state given the maximum Loan ID of the loans,
+     * which is null if there are no loans.
+     */
+    static boolean isLoanIdManagerInLegalState(LoanIdManager loanIdManager, LoanId maximumObservedLoanId) {
         // If the list of Loans is empty, then the ID Manager is definitely legal.
         if (maximumObservedLoanId == null) {
             return true;
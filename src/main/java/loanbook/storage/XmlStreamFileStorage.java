@@ -0,0 +1,291 @@
+package loanbook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import loanbook.commons.exceptions.DataConversionException;
+import loanbook.commons.exceptions.IllegalValueException;
+import loanbook.commons.util.FileUtil;
+import loanbook.commons.util.XmlUtil;
+import loanbook.model.LoanBook;
+import loanbook.model.ReadOnlyLoanBook;
+import loanbook.model.bike.Bike;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanId;
+import loanbook.model.loan.LoanIdManager;
+
+/**
+ * Reads and writes loanbook data in an XML file one bike or loan at a time, so that neither a copy of the file
+ * nor an {@link XmlSerializableLoanBook} with every record is kept in memory.
+ *
+ * The file has the same format as the one written by {@link XmlFileStorage}. The elements of the root are
+ * read with StAX, and each bike, loan and the Loan ID Manager is converted on its own by JAXB, so the fields
+ * of each record are read and written exactly as they are for a whole {@link XmlSerializableLoanBook}.
+ */
+public class XmlStreamFileStorage {
+
+    private static final String ROOT_ELEMENT = "loanbook";
+    private static final String BIKE_ELEMENT = "bikes";
+    private static final String LOAN_ELEMENT = "loans";
+    private static final String LOAN_ID_MANAGER_ELEMENT = "loanIdManager";
+
+    /*
+     * The declaration, line separator and indentation written by JAXB for formatted output. No field of a bike
+     * or loan can contain a line break, so every line break in a record written by JAXB is followed by markup,
+     * and indenting the record one level deeper gives the same bytes as writing it inside the root.
+     */
+    private static final byte[] XML_DECLARATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ROOT_START = ("<" + ROOT_ELEMENT + ">\n").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ROOT_END = ("</" + ROOT_ELEMENT + ">\n").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INDENT = "    ".getBytes(StandardCharsets.UTF_8);
+    private static final byte LINE_BREAK = '\n';
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Saves the given loanbook data to the specified file, converting one record at a time.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void saveLoanBook(Path file, ReadOnlyLoanBook loanBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(loanBook);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            Marshaller marshaller = XmlUtil.getFragmentMarshaller(XmlSerializableLoanBook.class);
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+
+            out.write(XML_DECLARATION);
+            out.write(ROOT_START);
+            for (Bike bike : loanBook.getBikeList()) {
+                writeRecord(marshaller, BIKE_ELEMENT, XmlAdaptedBike.class, new XmlAdaptedBike(bike), record, out);
+            }
+            for (Loan loan : loanBook.getLoanList()) {
+                writeRecord(marshaller, LOAN_ELEMENT, XmlAdaptedLoan.class, new XmlAdaptedLoan(loan), record, out);
+            }
+            writeRecord(marshaller, LOAN_ID_MANAGER_ELEMENT, XmlAdaptedLoanIdManager.class,
+                    new XmlAdaptedLoanIdManager(loanBook.getLoanIdManager()), record, out);
+            out.write(ROOT_END);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the loan book in the specified file, converting and checking one record at a time.
+     *
+     * @throws DataConversionException if the file is empty or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the records.
+     * @throws IOException if the file is missing or cannot be read.
+     */
+    public static LoanBook loadLoanBook(Path file) throws DataConversionException, IllegalValueException, IOException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                return new LoanBookReader(reader).read();
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns a factory for readers which do not read document types or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Writes {@code value} to {@code out} as the element {@code elementName} one level inside the root,
+     * using {@code buffer} to hold the record while it is indented.
+     */
+    private static <T> void writeRecord(Marshaller marshaller, String elementName, Class<T> type, T value,
+            ByteArrayOutputStream buffer, OutputStream out) throws IOException, JAXBException {
+        buffer.reset();
+        marshaller.marshal(new JAXBElement<>(new QName(elementName), type, value), buffer);
+
+        // JAXB starts and may end a fragment with a line break, which are left out.
+        byte[] bytes = buffer.toByteArray();
+        int lineStart = 0;
+        int length = bytes.length;
+        while (lineStart < length && bytes[lineStart] == LINE_BREAK) {
+            lineStart++;
+        }
+        while (length > lineStart && bytes[length - 1] == LINE_BREAK) {
+            length--;
+        }
+
+        for (int i = lineStart; i <= length; i++) {
+            if (i == length || bytes[i] == LINE_BREAK) {
+                out.write(INDENT);
+                out.write(bytes, lineStart, i - lineStart);
+                out.write(LINE_BREAK);
+                lineStart = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Reads the records in a loanbook file into a {@code LoanBook}, checking each record as it is read.
+     */
+    private static class LoanBookReader {
+
+        private final XMLStreamReader reader;
+        private final Unmarshaller unmarshaller;
+        private final LoanBook loanBook = new LoanBook();
+        /** The bikes of the loans read so far by name, which are the ones in the bike list if there are any. */
+        private final Map<String, Bike> bikesByName = new HashMap<>();
+        private LoanIdManager loanIdManager = new LoanIdManager();
+        private LoanId maximumLoanId = null;
+
+        LoanBookReader(XMLStreamReader reader) throws JAXBException {
+            this.reader = reader;
+            this.unmarshaller = XmlUtil.getContext(XmlSerializableLoanBook.class).createUnmarshaller();
+        }
+
+        /**
+         * Reads the whole file and returns its loan book.
+         */
+        LoanBook read() throws XMLStreamException, JAXBException, IllegalValueException {
+            moveToNextTag();
+            if (!reader.isStartElement() || !ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new XMLStreamException("Expected the element <" + ROOT_ELEMENT + ">", reader.getLocation());
+            }
+
+            reader.next();
+            moveToNextTag();
+            while (reader.isStartElement()) {
+                readRecord(reader.getLocalName());
+                moveToNextTag();
+            }
+
+            if (!XmlSerializableLoanBook.isLoanIdManagerInLegalState(loanIdManager, maximumLoanId)) {
+                throw new IllegalValueException(XmlSerializableLoanBook.MESSAGE_ILLEGAL_LOAN_ID_MANAGER);
+            }
+            loanBook.setLoanIdManager(loanIdManager);
+            return loanBook;
+        }
+
+        /**
+         * Reads the element at the reader, which is named {@code elementName}, and adds it to the loan book.
+         * Leaves the reader just after the end of the element.
+         */
+        private void readRecord(String elementName) throws XMLStreamException, JAXBException,
+                IllegalValueException {
+            switch (elementName) {
+            case BIKE_ELEMENT:
+                addBike(unmarshaller.unmarshal(reader, XmlAdaptedBike.class).getValue().toModelType());
+                break;
+            case LOAN_ELEMENT:
+                addLoan(unmarshaller.unmarshal(reader, XmlAdaptedLoan.class).getValue());
+                break;
+            case LOAN_ID_MANAGER_ELEMENT:
+                loanIdManager = unmarshaller.unmarshal(reader, XmlAdaptedLoanIdManager.class).getValue()
+                        .toModelType();
+                break;
+            default:
+                // Like JAXB, ignore elements which are not part of a loanbook.
+                skipElement();
+            }
+        }
+
+        /**
+         * Adds {@code bike} to the bike list of the loan book.
+         *
+         * @throws IllegalValueException if the bike list already has the bike.
+         */
+        private void addBike(Bike bike) throws IllegalValueException {
+            if (loanBook.hasBike(bike)) {
+                throw new IllegalValueException(XmlSerializableLoanBook.MESSAGE_DUPLICATE_BIKE);
+            }
+            // A loan read before this bike may already have created a bike with the same name.
+            Bike sharedBike = bikesByName.computeIfAbsent(bike.getName().value, unused -> bike);
+            loanBook.addBike(sharedBike);
+        }
+
+        /**
+         * Converts {@code xmlLoan} and adds it to the loan list of the loan book.
+         *
+         * @throws IllegalValueException if the loan is not valid or another loan has its Loan ID.
+         */
+        private void addLoan(XmlAdaptedLoan xmlLoan) throws IllegalValueException {
+            // Loans of the same bike share a single Bike, which is the one in the bike list if there is one.
+            Loan loan = xmlLoan.toModelType(name -> bikesByName.computeIfAbsent(name.value,
+                unused -> new Bike(name)));
+
+            LoanId loanId = loan.getLoanId();
+            if (loanBook.getLoanById(loanId).isPresent()) {
+                throw new IllegalValueException(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN_ID);
+            }
+            if (maximumLoanId == null || loanId.value > maximumLoanId.value) {
+                maximumLoanId = loanId;
+            }
+            loanBook.addLoan(loan);
+        }
+
+        /**
+         * Moves the reader past text and comments to the next start tag, end tag or the end of the document.
+         */
+        private void moveToNextTag() throws XMLStreamException {
+            while (!reader.isStartElement() && !reader.isEndElement()
+                    && reader.getEventType() != XMLStreamConstants.END_DOCUMENT) {
+                reader.next();
+            }
+        }
+
+        /**
+         * Moves the reader from the start of an element to just after its end.
+         */
+        private void skipElement() throws XMLStreamException {
+            int depth = 0;
+            do {
+                if (reader.isStartElement()) {
+                    depth++;
+                } else if (reader.isEndElement()) {
+                    depth--;
+                }
+                reader.next();
+            } while (depth > 0);
+        }
+    }
+}
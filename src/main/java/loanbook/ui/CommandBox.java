@@ -55,6 +55,13 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // Only consume the tab key when it is used for completion,
+            // so that it can still be used to move the focus away from the command box
+            if (completeBikeName()) {
+                keyEvent.consume();
+            }
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -86,6 +93,32 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Completes the word before the caret to the name of a bike, if there are bikes whose names start with it.
+     * A word is delimited by whitespace or a {@code /}, so that names directly following a prefix are completed.
+     *
+     * @return True if there is a word before the caret to complete.
+     */
+    private boolean completeBikeName() {
+        String text = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        int wordStart = caretPosition;
+        while (wordStart > 0 && !Character.isWhitespace(text.charAt(wordStart - 1))
+                && text.charAt(wordStart - 1) != '/') {
+            wordStart--;
+        }
+
+        String partialBikeName = text.substring(wordStart, caretPosition);
+        if (partialBikeName.isEmpty()) {
+            return false;
+        }
+
+        String completedBikeName = logic.completeBikeName(partialBikeName);
+        commandTextField.replaceText(wordStart, caretPosition, completedBikeName);
+        commandTextField.positionCaret(wordStart + completedBikeName.length());
+        return true;
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
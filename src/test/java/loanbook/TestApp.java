@@ -73,6 +73,7 @@ public class TestApp extends MainApp {
      */
     public LoanBook readStorageLoanBook() {
         try {
+            storage.flushLoanBook();
             return new LoanBook(storage.readLoanBook().get());
         } catch (DataConversionException dce) {
             throw new AssertionError("Data is not in the LoanBook format.", dce);
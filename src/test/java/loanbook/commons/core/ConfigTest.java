@@ -16,7 +16,8 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Loanbook App\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Loan book save delay : 500 ms";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -52,6 +52,27 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonZeroUnsignedInteger("10"));
     }
 
+    //---------------- Tests for isAsciiDigits --------------------------------------
+
+    @Test
+    public void isAsciiDigits() {
+        // EP: empty strings
+        assertFalse(StringUtil.isAsciiDigits("")); // Boundary value
+        assertFalse(StringUtil.isAsciiDigits("  "));
+
+        // EP: not only digits
+        assertFalse(StringUtil.isAsciiDigits("a"));
+        assertFalse(StringUtil.isAsciiDigits("-1"));
+        assertFalse(StringUtil.isAsciiDigits("1 0"));
+        assertFalse(StringUtil.isAsciiDigits("1.5"));
+        assertFalse(StringUtil.isAsciiDigits("\u0661")); // A digit, but not one of 0 to 9
+
+        // EP: only digits, should return true
+        assertTrue(StringUtil.isAsciiDigits("0")); // Boundary value
+        assertTrue(StringUtil.isAsciiDigits("0123456789"));
+        assertTrue(StringUtil.isAsciiDigits("99999999999999999999")); // Too large for a long
+    }
+
 
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
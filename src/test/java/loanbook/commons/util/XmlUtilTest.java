@@ -1,6 +1,7 @@
 package loanbook.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -9,6 +10,7 @@ import java.util.Collections;
 import java.util.List;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.junit.Rule;
@@ -137,6 +139,19 @@ public class XmlUtilTest {
         assertEquals(expectedLoan, actualLoan);
     }
 
+    @Test
+    public void getContext_sameClass_returnsSameContext() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableLoanBook.class),
+                XmlUtil.getContext(XmlSerializableLoanBook.class));
+    }
+
+    @Test
+    public void getFragmentMarshaller_sameClass_returnsSameFragmentMarshaller() throws Exception {
+        Marshaller marshaller = XmlUtil.getFragmentMarshaller(XmlSerializableLoanBook.class);
+        assertSame(marshaller, XmlUtil.getFragmentMarshaller(XmlSerializableLoanBook.class));
+        assertEquals(true, marshaller.getProperty(Marshaller.JAXB_FRAGMENT));
+    }
+
     @Test
     public void saveDataToFile_nullFile_throwsNullPointerException() throws Exception {
         thrown.expect(NullPointerException.class);
@@ -16,6 +16,7 @@ import loanbook.logic.parser.exceptions.ParseException;
 import loanbook.model.Model;
 import loanbook.model.ModelManager;
 import loanbook.model.UserPrefs;
+import loanbook.testutil.BikeBuilder;
 
 
 public class LogicManagerTest {
@@ -52,6 +53,23 @@ public class LogicManagerTest {
         logic.getFilteredLoanList().remove(0);
     }
 
+    @Test
+    public void completeBikeName() {
+        model.addBike(new BikeBuilder().withName("Bike001").build());
+        model.addBike(new BikeBuilder().withName("Bike002").build());
+        model.addBike(new BikeBuilder().withName("Blue Ocean").build());
+
+        // unique match -> full bike name, with the case of the bike name
+        assertEquals("Blue Ocean", logic.completeBikeName("bl"));
+
+        // multiple matches -> longest common prefix
+        assertEquals("Bike00", logic.completeBikeName("bik"));
+        assertEquals("B", logic.completeBikeName("b"));
+
+        // no match -> unchanged
+        assertEquals("Bz", logic.completeBikeName("Bz"));
+    }
+
     /**
      * Executes the command, confirms that no exceptions are thrown and that the result message is correct.
      * Also confirms that {@code expectedModel} is as specified.
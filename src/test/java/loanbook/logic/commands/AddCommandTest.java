@@ -11,6 +11,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -148,8 +149,9 @@ public class AddCommandTest {
         }
 
         @Override
-        public void commitLoanBook() {
+        public <T> T runTransaction(Supplier<T> mutations) {
             // called by {@code AddCommand#execute()}
+            return mutations.get();
         }
 
         @Override
@@ -0,0 +1,95 @@
+package loanbook.logic.commands;
+
+import static loanbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static loanbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
+import static loanbook.testutil.TypicalLoans.ALICE;
+import static loanbook.testutil.TypicalLoans.ELLE;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import loanbook.logic.CommandHistory;
+import loanbook.model.Model;
+import loanbook.model.ModelManager;
+import loanbook.model.UserPrefs;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.Money;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
+import loanbook.testutil.LoanBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CustomerCommand}.
+ */
+public class CustomerCommandTest {
+
+    private Model model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_customerWithOneReturnedLoan_success() {
+        Nric nric = ELLE.getNric();
+        String expectedMessage = getExpectedMessage(nric, ELLE);
+        expectedModel.updateFilteredLoanList(loan -> loan.getNric().equals(nric));
+
+        assertCommandSuccess(new CustomerCommand(nric), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_customerWithMultipleLoans_success() {
+        Loan returnedLoanOfAlice = new LoanBuilder(ELLE).withLoanId("100").withNric(ALICE.getNric().nric).build();
+        model.addLoan(returnedLoanOfAlice);
+        expectedModel.addLoan(returnedLoanOfAlice);
+
+        Nric nric = ALICE.getNric();
+        String expectedMessage = getExpectedMessage(nric, ALICE, returnedLoanOfAlice)
+                + String.format(CustomerCommand.MESSAGE_ONGOING_LOAN,
+                        ALICE.getLoanId(), ALICE.getBike().getName(), ALICE.getLoanStartTime());
+        expectedModel.updateFilteredLoanList(loan -> loan.getNric().equals(nric));
+
+        assertCommandSuccess(new CustomerCommand(nric), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_customerWithoutLoans_throwsCommandException() {
+        CustomerCommand customerCommand = new CustomerCommand(new Nric("S1234567D"));
+        assertCommandFailure(customerCommand, model, commandHistory, CustomerCommand.MESSAGE_CUSTOMER_NOT_FOUND);
+    }
+
+    @Test
+    public void equals() {
+        CustomerCommand aliceCommand = new CustomerCommand(ALICE.getNric());
+        CustomerCommand elleCommand = new CustomerCommand(ELLE.getNric());
+
+        // same object -> returns true
+        assertTrue(aliceCommand.equals(aliceCommand));
+
+        // same values -> returns true
+        assertTrue(aliceCommand.equals(new CustomerCommand(new Nric(ALICE.getNric().nric))));
+
+        // different types -> returns false
+        assertFalse(aliceCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(aliceCommand.equals(null));
+
+        // different customer -> returns false
+        assertFalse(aliceCommand.equals(elleCommand));
+    }
+
+    /**
+     * Returns the summary line expected from a {@code CustomerCommand} for a customer with the given loans.
+     */
+    private static String getExpectedMessage(Nric nric, Loan... customerLoans) {
+        Summary summary = new Summary();
+        Arrays.stream(customerLoans).forEach(summary::addLoan);
+        return String.format(CustomerCommand.MESSAGE_CUSTOMER_SUMMARY, nric.getCensored(),
+                summary.getNumLoans(), summary.getNumLoansInProgress(),
+                Money.format(summary.getTotalRevenueCents()));
+    }
+}
@@ -8,7 +8,7 @@ import static loanbook.logic.commands.CommandTestUtil.assertCommandFailure;
 import static loanbook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static loanbook.logic.commands.CommandTestUtil.showBikeAtIndex;
 import static loanbook.testutil.TypicalIndexes.INDEX_FIRST_LOAN;
-import static loanbook.testutil.TypicalIndexes.INDEX_SECOND_LOAN;
+import static loanbook.testutil.TypicalIndexes.INDEX_THIRD_LOAN;
 import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -38,7 +38,7 @@ public class DeleteBikeCommandTest {
     public void execute_validNameUnfilteredList_success() {
         model.setPass(dummyPassword);
 
-        Bike bikeToDelete = model.getFilteredBikeList().get(INDEX_FIRST_LOAN.getZeroBased());
+        Bike bikeToDelete = model.getFilteredBikeList().get(INDEX_THIRD_LOAN.getZeroBased());
         DeleteBikeCommand deleteBikeCommand = new DeleteBikeCommand(bikeToDelete.getName(), pass);
 
         String expectedMessage = String.format(DeleteBikeCommand.MESSAGE_DELETE_BIKE_SUCCESS, bikeToDelete);
@@ -62,7 +62,7 @@ public class DeleteBikeCommandTest {
     public void execute_validNameFilteredList_success() {
         model.setPass(dummyPassword);
 
-        showBikeAtIndex(model, INDEX_FIRST_LOAN);
+        showBikeAtIndex(model, INDEX_THIRD_LOAN);
 
         Bike bikeToDelete = model.getFilteredBikeList().get(INDEX_FIRST_LOAN.getZeroBased());
         DeleteBikeCommand deleteBikeCommand = new DeleteBikeCommand(bikeToDelete.getName(), pass);
@@ -81,11 +81,11 @@ public class DeleteBikeCommandTest {
     public void execute_bikeNotInFilteredList_success() {
         model.setPass(dummyPassword);
 
-        // Have at least 2 bikes in the list
-        assertTrue(model.getLoanBook().getBikeList().size() >= 2);
+        // Have at least 3 bikes in the list
+        assertTrue(model.getLoanBook().getBikeList().size() >= 3);
 
         // Grab a valid bike in the model, but that's not in the filtered list
-        Bike bikeToDelete = model.getFilteredBikeList().get(INDEX_SECOND_LOAN.getZeroBased());
+        Bike bikeToDelete = model.getFilteredBikeList().get(INDEX_THIRD_LOAN.getZeroBased());
 
         showBikeAtIndex(model, INDEX_FIRST_LOAN);
 
@@ -101,24 +101,38 @@ public class DeleteBikeCommandTest {
         assertCommandSuccess(deleteBikeCommand, model, commandHistory, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_bikeWithOngoingLoans_throwsCommandException() {
+        model.setPass(dummyPassword);
+
+        Bike bikeOnLoan = model.getFilteredBikeList().get(INDEX_FIRST_LOAN.getZeroBased());
+        int ongoingLoanCount = model.getOngoingLoansOfBike(bikeOnLoan).size();
+        assertTrue(ongoingLoanCount > 0);
+
+        DeleteBikeCommand deleteBikeCommand = new DeleteBikeCommand(bikeOnLoan.getName(), pass);
+
+        assertCommandFailure(deleteBikeCommand, model, commandHistory,
+                String.format(DeleteBikeCommand.MESSAGE_BIKE_ON_LOAN, ongoingLoanCount));
+    }
+
     @Test
     public void executeUndoRedo_validNameUnfilteredList_success() throws Exception {
         model.setPass(dummyPassword);
 
-        Bike bikeToDelete = model.getFilteredBikeList().get(INDEX_FIRST_LOAN.getZeroBased());
+        Bike bikeToDelete = model.getFilteredBikeList().get(INDEX_THIRD_LOAN.getZeroBased());
         DeleteBikeCommand deleteBikeCommand = new DeleteBikeCommand(bikeToDelete.getName(), pass);
         Model expectedModel = new ModelManager(model.getLoanBook(), new UserPrefs());
         expectedModel.deleteBike(bikeToDelete);
         expectedModel.commitLoanBook();
 
-        // delete -> first bike deleted
+        // delete -> third bike deleted
         deleteBikeCommand.execute(model, commandHistory);
 
         // undo -> reverts loanbook back to previous state and filtered bike list to show all bikes
         expectedModel.undoLoanBook();
         assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
 
-        // redo -> same first bike deleted again
+        // redo -> same third bike deleted again
         expectedModel.redoLoanBook();
         assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
     }
@@ -64,6 +64,8 @@ public class EditBikeCommandTest {
         String expectedMessage = String.format(EditBikeCommand.MESSAGE_EDIT_BIKE_SUCCESS, editedBike);
 
         Model expectedModel = new ModelManager(new LoanBook(model.getLoanBook()), new UserPrefs());
+        // the bike is still replaced by a copy of itself, which is recorded as a change
+        expectedModel.updateBike(editedBike, new BikeBuilder(editedBike).build());
         expectedModel.commitLoanBook();
 
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -100,6 +100,8 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_LOAN_SUCCESS, editedLoan);
 
         Model expectedModel = new ModelManager(new LoanBook(model.getLoanBook()), new UserPrefs());
+        // the loan is still replaced by a copy of itself, which is recorded as a change
+        expectedModel.updateLoan(editedLoan, new LoanBuilder(editedLoan).build());
         expectedModel.commitLoanBook();
 
         assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
@@ -1,6 +1,7 @@
 package loanbook.logic.commands;
 
 import static loanbook.commons.core.Messages.MESSAGE_LOANS_LISTED_OVERVIEW;
+import static loanbook.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static loanbook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
 import static loanbook.testutil.TypicalLoans.CARL;
@@ -19,7 +20,13 @@ import loanbook.logic.CommandHistory;
 import loanbook.model.Model;
 import loanbook.model.ModelManager;
 import loanbook.model.UserPrefs;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanStatus;
 import loanbook.model.loan.NameContainsKeywordsPredicate;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.NameQuery;
+import loanbook.model.query.StatusQuery;
+import loanbook.testutil.LoanBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -54,6 +61,9 @@ public class FindCommandTest {
 
         // different loan -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // explained -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(new NameQuery(firstPredicate), true)));
     }
 
     @Test
@@ -76,6 +86,35 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredLoanList());
     }
 
+    @Test
+    public void execute_foundLoanEditedAfterwards_editedLoanStillFound() throws Exception {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model, commandHistory);
+
+        Loan editedCarl = new LoanBuilder(CARL).withPhone(VALID_PHONE_AMY).build();
+        model.updateLoan(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, ELLE, FIONA), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void execute_nameAndStatus_loansFoundFromSmallerIndex() {
+        String expectedMessage = String.format(MESSAGE_LOANS_LISTED_OVERVIEW, 1);
+        LoanQuery query = new NameQuery(preparePredicate("Kurz Elle Kunz")).and(new StatusQuery(LoanStatus.RETURNED));
+        FindCommand command = new FindCommand(query, false);
+        expectedModel.updateFilteredLoanList(query);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void execute_explain_showsPlanWithoutFiltering() {
+        LoanQuery query = new NameQuery(preparePredicate("Kurz Elle Kunz")).and(new StatusQuery(LoanStatus.RETURNED));
+        FindCommand command = new FindCommand(query, true);
+        String expectedMessage = "Query: name contains any of [Kurz, Elle, Kunz] and status is Returned\n"
+                + "Plan: look up status is Returned in the status index (2 loans), "
+                + "then check them for: name contains any of [Kurz, Elle, Kunz]";
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -4,6 +4,16 @@ import static loanbook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static loanbook.logic.commands.CommandTestUtil.showLoanAtIndex;
 import static loanbook.testutil.TypicalIndexes.INDEX_FIRST_LOAN;
 import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
+import static loanbook.testutil.TypicalLoans.ALICE;
+import static loanbook.testutil.TypicalLoans.BENSON;
+import static loanbook.testutil.TypicalLoans.CARL;
+import static loanbook.testutil.TypicalLoans.DANIEL;
+import static loanbook.testutil.TypicalLoans.FIONA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -12,6 +22,7 @@ import loanbook.logic.CommandHistory;
 import loanbook.model.Model;
 import loanbook.model.ModelManager;
 import loanbook.model.UserPrefs;
+import loanbook.model.loan.LoanStatus;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -38,4 +49,30 @@ public class ListCommandTest {
         showLoanAtIndex(model, INDEX_FIRST_LOAN);
         assertCommandSuccess(new ListCommand(), model, commandHistory, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_ongoingStatus_showsOngoingLoans() {
+        expectedModel.updateFilteredLoanList(loan -> loan.getLoanStatus() == LoanStatus.ONGOING);
+        assertCommandSuccess(new ListCommand(LoanStatus.ONGOING, false), model, commandHistory,
+                String.format(ListCommand.MESSAGE_STATUS_SUCCESS, LoanStatus.ONGOING), expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, FIONA), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void execute_explain_showsPlanWithoutFiltering() {
+        showLoanAtIndex(model, INDEX_FIRST_LOAN);
+        showLoanAtIndex(expectedModel, INDEX_FIRST_LOAN);
+        assertCommandSuccess(new ListCommand(null, true), model, commandHistory,
+                "Query: all loans\nPlan: show all loans", expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listCommand = new ListCommand();
+
+        assertTrue(listCommand.equals(new ListCommand(null, false)));
+        assertFalse(listCommand.equals(new ListCommand(LoanStatus.ONGOING, false)));
+        assertFalse(listCommand.equals(new ListCommand(null, true)));
+        assertFalse(listCommand.equals(null));
+    }
 }
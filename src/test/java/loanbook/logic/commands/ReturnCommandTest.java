@@ -19,7 +19,7 @@ import loanbook.model.ModelManager;
 import loanbook.model.UserPrefs;
 import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanTime;
-import loanbook.testutil.LoanBuilder;
+import loanbook.model.loan.Money;
 
 /**
  * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for EditCommand.
@@ -31,7 +31,7 @@ public class ReturnCommandTest {
 
     @Test
     public void execute_returnOngoingLoan_success() {
-        Loan newLoan = new LoanBuilder().build();
+        Loan newLoan = model.getFilteredLoanList().get(0);
         Loan returnedLoan = new Loan(newLoan.getLoanId(),
                 newLoan.getName(),
                 newLoan.getNric(),
@@ -46,7 +46,7 @@ public class ReturnCommandTest {
         ReturnCommand returnCommand = new ReturnCommand(INDEX_FIRST_LOAN);
 
         String expectedMessage = String.format(ReturnCommand.MESSAGE_SUCCESS,
-                returnedLoan, returnedLoan.calculateCost());
+                returnedLoan, Money.format(returnedLoan.calculateCostCents()));
 
         Model expectedModel = new ModelManager(new LoanBook(model.getLoanBook()), new UserPrefs());
         expectedModel.updateLoan(model.getFilteredLoanList().get(0), returnedLoan);
@@ -2,19 +2,29 @@ package loanbook.logic.commands;
 
 import static loanbook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
+import static loanbook.testutil.TypicalLoans.BENSON;
+import static loanbook.testutil.TypicalLoans.ELLE;
+import static loanbook.testutil.TypicalLoans.GEORGE;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import loanbook.logic.CommandHistory;
+import loanbook.logic.commands.SearchCommand.SearchType;
 import loanbook.logic.commands.exceptions.CommandException;
 import loanbook.model.Model;
 import loanbook.model.ModelManager;
 import loanbook.model.UserPrefs;
+import loanbook.model.loan.LoanStatus;
 import loanbook.model.loan.LoanTime;
+import loanbook.model.query.TimeRangeQuery;
+import loanbook.model.query.TimeRangeQuery.TimeOfLoan;
 
 public class SearchCommandTest {
 
@@ -22,6 +32,7 @@ public class SearchCommandTest {
     public ExpectedException thrown = ExpectedException.none();
 
     private Model model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalLoanBook(), new UserPrefs());
     private CommandHistory commandHistory = new CommandHistory();
     private LoanTime firstStartDate = LoanTime.startOfDayLoanTime("2000-01-01");
     private LoanTime secondStartDate = LoanTime.startOfDayLoanTime("2000-02-02");
@@ -57,6 +68,11 @@ public class SearchCommandTest {
         // different start date and end date -> returns false
         SearchCommand differentStartAndEndDateSearch = new SearchCommand(secondStartDate, secondEndDate);
         assertFalse(firstSearch.equals(differentStartAndEndDateSearch));
+
+        // different search type -> returns false
+        SearchCommand endedSearch = new SearchCommand(firstStartDate, firstEndDate, SearchType.ENDED);
+        assertFalse(firstSearch.equals(endedSearch));
+        assertTrue(firstSearch.equals(new SearchCommand(firstStartDate, firstEndDate, SearchType.STARTED)));
     }
 
     @Test
@@ -71,7 +87,37 @@ public class SearchCommandTest {
     @Test
     public void execute_loanFound_success() {
         SearchCommand searchCommand = new SearchCommand(firstStartDate, secondEndDate);
+        expectedModel.updateFilteredLoanList(loan ->
+                loan.getLoanStartTime().isBetweenRange(firstStartDate, secondEndDate));
+        assertCommandSuccess(searchCommand, model, commandHistory,
+                String.format(SearchCommand.MESSAGE_SUCCESS, firstStartDate, secondEndDate), expectedModel);
+        assertEquals(Arrays.asList(BENSON, ELLE, GEORGE), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void execute_endedLoanFound_success() {
+        SearchCommand searchCommand = new SearchCommand(firstStartDate, secondEndDate, SearchType.ENDED);
+        expectedModel.updateFilteredLoanList(loan -> loan.getLoanStatus() == LoanStatus.RETURNED);
         assertCommandSuccess(searchCommand, model, commandHistory,
-                String.format(SearchCommand.MESSAGE_SUCCESS, firstStartDate, secondEndDate), model);
+                String.format(SearchCommand.MESSAGE_ENDED_SUCCESS, firstStartDate, secondEndDate), expectedModel);
+        assertEquals(Arrays.asList(ELLE, GEORGE), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void execute_explain_showsPlanWithoutFiltering() {
+        SearchCommand searchCommand = new SearchCommand(firstStartDate, secondEndDate, SearchType.ENDED, true);
+        String expectedMessage = expectedModel.planLoanQuery(
+                new TimeRangeQuery(TimeOfLoan.ENDED, firstStartDate, secondEndDate)).toString();
+        assertCommandSuccess(searchCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertTrue(expectedMessage.contains("end time index (2 loans)"));
+    }
+
+    @Test
+    public void execute_noEndedLoanFound_throwsCommandException() throws Exception {
+        SearchCommand searchCommand = new SearchCommand(firstStartDate, firstEndDate, SearchType.ENDED);
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(SearchCommand.MESSAGE_ENDED_FAILURE, firstStartDate, firstEndDate));
+        searchCommand.execute(model, commandHistory);
     }
 }
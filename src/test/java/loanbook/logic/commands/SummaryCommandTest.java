@@ -1,6 +1,8 @@
 package loanbook.logic.commands;
 
 import static loanbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static loanbook.logic.commands.CommandTestUtil.showLoanAtIndex;
+import static loanbook.testutil.TypicalIndexes.INDEX_FIRST_LOAN;
 import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
 import static loanbook.testutil.TypicalLoans.ALICE;
 import static loanbook.testutil.TypicalLoans.BOB;
@@ -17,6 +19,8 @@ import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanRate;
 import loanbook.model.loan.LoanStatus;
 import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Summary;
+import loanbook.testutil.LoanBuilder;
 
 
 public class SummaryCommandTest {
@@ -42,7 +46,7 @@ public class SummaryCommandTest {
 
         assertEquals(summary.getNumLoans(), 1);
         assertEquals(summary.getNumLoansInProgress(), 0);
-        assertEquals(summary.getTotalRevenue(), 6.0, 0.005);
+        assertEquals(600, summary.getTotalRevenueCents());
 
         summary.addLoan(new Loan(BOB.getLoanId(),
                 BOB.getName(),
@@ -55,7 +59,24 @@ public class SummaryCommandTest {
 
         assertEquals(summary.getNumLoans(), 2);
         assertEquals(summary.getNumLoansInProgress(), 1);
-        assertEquals(summary.getTotalRevenue(), 6.0, 0.005);
+        assertEquals(600, summary.getTotalRevenueCents());
+    }
+
+    @Test
+    public void removeLoan_summaryObject_success() {
+        Summary summary = new Summary();
+        Loan returnedLoan = new LoanBuilder(ALICE).withLoanRate("6.00").withLoanStartTime("2001-02-03 19:06")
+                .withLoanEndTime("2001-02-03 20:06").withLoanStatus("RETURNED").build();
+        summary.addLoan(returnedLoan);
+        summary.addLoan(BOB);
+
+        summary.removeLoan(BOB);
+        assertEquals(summary.getNumLoans(), 1);
+        assertEquals(summary.getNumLoansInProgress(), 0);
+        assertEquals(600, summary.getTotalRevenueCents());
+
+        summary.removeLoan(returnedLoan);
+        assertEquals(new Summary(), summary);
     }
 
     @Test
@@ -86,4 +107,22 @@ public class SummaryCommandTest {
         assertCommandSuccess(new SummaryCommand(), model, commandHistory, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_filteredList_filterUnchanged() {
+        Model model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+        showLoanAtIndex(model, INDEX_FIRST_LOAN);
+        showLoanAtIndex(expectedModel, INDEX_FIRST_LOAN);
+
+        Summary summary = new Summary();
+        for (Loan loan : expectedModel.getLoanBook().getLoanList()) {
+            summary.addLoan(loan);
+        }
+
+        String expectedMessage = String.format(SummaryCommand.MESSAGE_SUMMARY_ACKNOWLEDGEMENT, summary.getSummary());
+
+        assertCommandSuccess(new SummaryCommand(), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(1, model.getFilteredLoanList().size());
+    }
+
 }
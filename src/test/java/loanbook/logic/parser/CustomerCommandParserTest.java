@@ -0,0 +1,30 @@
+package loanbook.logic.parser;
+
+import static loanbook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loanbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static loanbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import loanbook.logic.commands.CustomerCommand;
+import loanbook.model.loan.Nric;
+
+public class CustomerCommandParserTest {
+
+    private CustomerCommandParser parser = new CustomerCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsCustomerCommand() {
+        assertParseSuccess(parser, " ic/S0848937H", new CustomerCommand(new Nric("S0848937H")));
+
+        // lower-case NRIC is accepted
+        assertParseSuccess(parser, " ic/s0848937h", new CustomerCommand(new Nric("S0848937H")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "S0848937H",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, CustomerCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " ic/S0848937A", Nric.MESSAGE_NRIC_CONSTRAINTS);
+    }
+}
@@ -1,6 +1,12 @@
 package loanbook.logic.parser;
 
 import static loanbook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static loanbook.logic.commands.CommandTestUtil.BIKE_DESC_BOB;
+import static loanbook.logic.commands.CommandTestUtil.NRIC_DESC_BOB;
+import static loanbook.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BIKE2;
+import static loanbook.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static loanbook.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static loanbook.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static loanbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -9,7 +15,15 @@ import java.util.Arrays;
 import org.junit.Test;
 
 import loanbook.logic.commands.FindCommand;
+import loanbook.model.loan.Name;
 import loanbook.model.loan.NameContainsKeywordsPredicate;
+import loanbook.model.loan.Nric;
+import loanbook.model.query.BikeQuery;
+import loanbook.model.query.CustomerQuery;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.NameQuery;
+import loanbook.model.query.TagQuery;
+import loanbook.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +45,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_explainAndFields_returnsFindCommand() {
+        LoanQuery expectedQuery = new NameQuery(new NameContainsKeywordsPredicate(Arrays.asList("Alice")))
+                .and(new CustomerQuery(new Nric(VALID_NRIC_BOB)))
+                .and(new BikeQuery(new Name(VALID_NAME_BIKE2)))
+                .and(new TagQuery(new Tag(VALID_TAG_FRIEND)));
+        assertParseSuccess(parser, "explain Alice" + NRIC_DESC_BOB + BIKE_DESC_BOB + TAG_DESC_FRIEND,
+                new FindCommand(expectedQuery, true));
+
+        // fields without keywords
+        assertParseSuccess(parser, NRIC_DESC_BOB, new FindCommand(new CustomerQuery(new Nric(VALID_NRIC_BOB)), false));
+
+        // explain without anything to find
+        assertParseFailure(parser, "explain", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -8,6 +8,7 @@ import static loanbook.logic.commands.CommandTestUtil.PASSWORD2_DESC;
 import static loanbook.logic.commands.CommandTestUtil.USER_EMAIL1_DESC;
 import static loanbook.logic.commands.CommandTestUtil.VALID_USER_EMAIL1;
 import static loanbook.logic.parser.CliSyntax.PREFIX_ID;
+import static loanbook.logic.parser.CliSyntax.PREFIX_NRIC;
 import static loanbook.logic.parser.CliSyntax.PREFIX_PASSWORD;
 import static loanbook.testutil.TypicalIndexes.INDEX_FIRST_LOAN;
 import static org.junit.Assert.assertEquals;
@@ -24,6 +25,7 @@ import org.junit.rules.ExpectedException;
 import loanbook.logic.commands.AddBikeCommand;
 import loanbook.logic.commands.AddCommand;
 import loanbook.logic.commands.CheckEmailCommand;
+import loanbook.logic.commands.CustomerCommand;
 import loanbook.logic.commands.DeleteCommand;
 import loanbook.logic.commands.EditCommand;
 import loanbook.logic.commands.ExitCommand;
@@ -46,8 +48,10 @@ import loanbook.model.bike.Bike;
 import loanbook.model.loan.Email;
 import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanId;
+import loanbook.model.loan.LoanStatus;
 import loanbook.model.loan.LoanTime;
 import loanbook.model.loan.NameContainsKeywordsPredicate;
+import loanbook.model.loan.Nric;
 import loanbook.testutil.BikeBuilder;
 import loanbook.testutil.BikeUtil;
 import loanbook.testutil.EditLoanDescriptorBuilder;
@@ -109,6 +113,13 @@ public class LoanBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_customer() throws Exception {
+        CustomerCommand command = (CustomerCommand) parser.parseCommand(
+                CustomerCommand.COMMAND_WORD + " " + PREFIX_NRIC + "S0848937H");
+        assertEquals(new CustomerCommand(new Nric("S0848937H")), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -155,6 +166,8 @@ public class LoanBookParserTest {
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(new ListCommand(LoanStatus.RETURNED, true),
+                parser.parseCommand(ListCommand.COMMAND_WORD + " explain returned"));
     }
 
     @Test
@@ -10,6 +10,7 @@ import static loanbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import org.junit.Test;
 
 import loanbook.logic.commands.SearchCommand;
+import loanbook.logic.commands.SearchCommand.SearchType;
 import loanbook.model.loan.LoanTime;
 
 public class SearchCommandParserTest {
@@ -25,6 +26,27 @@ public class SearchCommandParserTest {
         isValidDate("2018-01-01 2018-01-01");
     }
 
+    @Test
+    public void parse_endedKeyword_success() {
+        SearchCommand expectedCommand = new SearchCommand(LoanTime.startOfDayLoanTime("2018-01-01"),
+                LoanTime.endOfDayLoanTime("2018-01-02"), SearchType.ENDED);
+        assertParseSuccess(parser, "ended 2018-01-01 2018-01-02", expectedCommand);
+        assertParseSuccess(parser, "ENDED 2018-01-01 2018-01-02", expectedCommand);
+    }
+
+    @Test
+    public void parse_explainKeyword_success() {
+        SearchCommand expectedCommand = new SearchCommand(LoanTime.startOfDayLoanTime("2018-01-01"),
+                LoanTime.endOfDayLoanTime("2018-01-02"), SearchType.ENDED, true);
+        assertParseSuccess(parser, "explain ended 2018-01-01 2018-01-02", expectedCommand);
+        assertParseSuccess(parser, "EXPLAIN ended 2018-01-01 2018-01-02", expectedCommand);
+    }
+
+    @Test
+    public void parse_endedKeywordWithOneDate_failure() {
+        assertParseFailure(parser, "ended 2018-01-01", MESSAGE_INVALID_DATE_FORMAT);
+    }
+
     /**
      * Checks if the given input is a valid input for the search command.
      */
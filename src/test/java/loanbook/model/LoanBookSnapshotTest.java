@@ -0,0 +1,38 @@
+package loanbook.model;
+
+import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
+import static loanbook.testutil.TypicalLoans.ALICE;
+import static loanbook.testutil.TypicalLoans.HOON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import loanbook.model.loan.LoanId;
+import loanbook.model.loan.LoanIdManager;
+
+public class LoanBookSnapshotTest {
+
+    @Test
+    public void constructor_sourceChangedAfterwards_snapshotUnchanged() {
+        LoanBook loanBook = getTypicalLoanBook();
+        LoanBookSnapshot snapshot = new LoanBookSnapshot(loanBook);
+        LoanBook expectedLoanBook = getTypicalLoanBook();
+
+        loanBook.addLoan(HOON);
+        loanBook.removeBike(loanBook.getBikeList().get(0));
+        loanBook.setLoanIdManager(new LoanIdManager(LoanId.fromInt(LoanId.MAXIMUM_ID)));
+
+        assertEquals(expectedLoanBook, new LoanBook(snapshot));
+    }
+
+    @Test
+    public void queries_sameAsSource() {
+        LoanBook loanBook = getTypicalLoanBook();
+        LoanBookSnapshot snapshot = new LoanBookSnapshot(loanBook);
+
+        assertEquals(loanBook.getLoansOfCustomer(ALICE.getNric()), snapshot.getLoansOfCustomer(ALICE.getNric()));
+        assertEquals(loanBook.getLoanSummary(), snapshot.getLoanSummary());
+        assertTrue(snapshot.hasEqualEditableFields(loanBook));
+    }
+}
@@ -6,6 +6,7 @@ import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
 import static loanbook.testutil.TypicalLoans.ALICE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -23,6 +24,10 @@ import loanbook.model.bike.Bike;
 import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanId;
 import loanbook.model.loan.LoanIdManager;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Name;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
 import loanbook.model.loan.exceptions.DuplicateLoanException;
 import loanbook.testutil.LoanBuilder;
 
@@ -52,6 +57,17 @@ public class LoanBookTest {
         assertEquals(newData, loanBook);
     }
 
+    @Test
+    public void replaceData_withLoanBook_copiedDataIsIndependent() {
+        LoanBook newData = getTypicalLoanBook();
+        loanBook.replaceData(newData);
+
+        loanBook.removeLoan(ALICE);
+        assertFalse(loanBook.hasLoan(ALICE));
+        assertTrue(newData.hasLoan(ALICE));
+        assertEquals(newData.getLoansOfCustomer(ALICE.getNric()), Collections.singletonList(ALICE));
+    }
+
     @Test
     public void replaceData_withDuplicateLoans_throwsDuplicateLoanException() {
         // Two loans with the same identity fields
@@ -107,6 +123,17 @@ public class LoanBookTest {
         assertTrue(loanBook.hasLoan(editedAlice));
     }
 
+    @Test
+    public void updateBike_bikeWithLoans_loansReferToEditedBike() {
+        loanBook.addBike(BIKE1);
+        loanBook.addLoan(ALICE);
+        Bike editedBike = new Bike(new Name("Edited Bike"));
+        loanBook.updateBike(BIKE1, editedBike);
+
+        assertSame(editedBike, loanBook.getLoanById(ALICE.getLoanId()).get().getBike());
+        assertEquals(Collections.singletonList(new Loan(ALICE, editedBike)), loanBook.getLoanList());
+    }
+
     @Test
     public void getBikeList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -179,6 +206,41 @@ public class LoanBookTest {
             return loans;
         }
 
+        @Override
+        public List<Loan> getOngoingLoansOfBike(Bike bike) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Loan> getReturnedLoansOfBike(Bike bike) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Loan> getLoansOfCustomer(Nric nric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Loan> getLoansWithNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Summary getLoanSummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public LoanIdManager getLoanIdManager() {
             return loanIdManager;
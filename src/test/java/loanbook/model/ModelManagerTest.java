@@ -1,34 +1,62 @@
 package loanbook.model;
 
 import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BIKE1;
+import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BIKE2;
+import static loanbook.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static loanbook.logic.commands.CommandTestUtil.VALID_USER_EMAIL1;
 import static loanbook.model.Model.PREDICATE_SHOW_ALL_BIKES;
 import static loanbook.model.Model.PREDICATE_SHOW_ALL_LOANS;
 import static loanbook.testutil.TypicalBikes.BIKE1;
 import static loanbook.testutil.TypicalBikes.BIKE2;
+import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
 import static loanbook.testutil.TypicalLoans.ALICE;
 import static loanbook.testutil.TypicalLoans.BENSON;
+import static loanbook.testutil.TypicalLoans.DANIEL;
+import static loanbook.testutil.TypicalLoans.ELLE;
+import static loanbook.testutil.TypicalLoans.FIONA;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ObservableList;
+
+import loanbook.commons.events.model.LoanBookChangedEvent;
+import loanbook.model.bike.exceptions.DuplicateBikeException;
 import loanbook.model.loan.Loan;
 import loanbook.model.loan.LoanId;
+import loanbook.model.loan.LoanStatus;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Name;
 import loanbook.model.loan.NameContainsKeywordsPredicate;
+import loanbook.model.query.BikeQuery;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.QueryPlan;
+import loanbook.model.query.StatusQuery;
+import loanbook.model.query.TagQuery;
+import loanbook.model.tag.Tag;
 import loanbook.testutil.LoanBookBuilder;
+import loanbook.testutil.LoanBuilder;
+import loanbook.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -82,6 +110,111 @@ public class ModelManagerTest {
         assertFalse(retrievedLoan.isPresent());
     }
 
+    @Test
+    public void getLoansEndedBetween_afterUndoAndRedo_consistentWithLoanBook() {
+        LoanTime startTime = LoanTime.startOfDayLoanTime("2000-01-01");
+        LoanTime endTime = LoanTime.endOfDayLoanTime("2018-12-31");
+        modelManager.addLoan(ELLE);
+        modelManager.commitLoanBook();
+        modelManager.deleteLoan(ELLE);
+        modelManager.commitLoanBook();
+        assertEquals(Collections.emptyList(), modelManager.getLoansEndedBetween(startTime, endTime));
+
+        modelManager.undoLoanBook();
+        assertEquals(Arrays.asList(ELLE), modelManager.getLoansEndedBetween(startTime, endTime));
+        assertEquals(Arrays.asList(ELLE), modelManager.getLoansStartedBetween(startTime, endTime));
+
+        modelManager.redoLoanBook();
+        assertEquals(Collections.emptyList(), modelManager.getLoansEndedBetween(startTime, endTime));
+        assertEquals(Collections.emptyList(), modelManager.getLoansStartedBetween(startTime, endTime));
+    }
+
+    @Test
+    public void getOngoingLoanList_afterUndo_consistentWithLoanBook() {
+        ObservableList<Loan> ongoingLoans = modelManager.getOngoingLoanList();
+        modelManager.addLoan(ALICE);
+        modelManager.addLoan(ELLE);
+        modelManager.commitLoanBook();
+        assertEquals(Arrays.asList(ALICE), ongoingLoans);
+        assertEquals(Arrays.asList(ELLE), modelManager.getReturnedLoanList());
+
+        modelManager.undoLoanBook();
+        assertEquals(Collections.emptyList(), ongoingLoans);
+        assertEquals(Collections.emptyList(), modelManager.getReturnedLoanList());
+    }
+
+    @Test
+    public void planLoanQuery_severalIndexedConjuncts_looksUpIndexWithFewestLoans() {
+        ModelManager model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+        LoanQuery statusQuery = new StatusQuery(LoanStatus.ONGOING);
+        LoanQuery bikeQuery = new BikeQuery(new Name(VALID_NAME_BIKE2));
+        LoanQuery query = statusQuery.and(bikeQuery);
+
+        // 5 loans are ongoing, but only 4 loans are of the bike
+        QueryPlan plan = model.planLoanQuery(query);
+        assertEquals(Optional.of(bikeQuery), plan.getIndexedConjunct());
+        assertEquals(4, plan.getCandidates().size());
+        assertEquals(statusQuery, plan.getResidualQuery());
+
+        model.updateFilteredLoanList(query);
+        assertEquals(Arrays.asList(DANIEL, FIONA), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void planLoanQuery_severalIndexedConjuncts_looksUpOnlyChosenConjunct() {
+        ModelManager model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+        LoanQuery bikeQuery = new BikeQuery(new Name(VALID_NAME_BIKE2));
+        LoanQuery query = new LargeIndexedQueryStub().and(bikeQuery);
+
+        QueryPlan plan = model.planLoanQuery(query);
+        assertEquals(Optional.of(bikeQuery), plan.getIndexedConjunct());
+        assertEquals(4, plan.getCandidates().size());
+    }
+
+    @Test
+    public void updateFilteredLoanList_indexedQueryThenLoansReplaced_showsReplacedLoansWhichStillMatch() {
+        ModelManager model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+        LoanQuery query = new StatusQuery(LoanStatus.ONGOING).and(new BikeQuery(new Name(VALID_NAME_BIKE2)));
+        model.updateFilteredLoanList(query);
+
+        // a loan which still satisfies the query after it is edited stays in the list
+        Loan editedDaniel = new LoanBuilder(DANIEL).withPhone(VALID_PHONE_AMY).build();
+        model.updateLoan(DANIEL, editedDaniel);
+        // a loan which no longer satisfies the query leaves the list
+        Loan editedFiona = new LoanBuilder(FIONA).withBike(VALID_NAME_BIKE1).build();
+        model.updateLoan(FIONA, editedFiona);
+        model.commitLoanBook();
+        assertEquals(Arrays.asList(editedDaniel), model.getFilteredLoanList());
+
+        model.undoLoanBook();
+        assertEquals(Arrays.asList(DANIEL, FIONA), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void planLoanQuery_noIndexedConjunct_scansAllLoans() {
+        ModelManager model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+        LoanQuery query = new TagQuery(new Tag("friends"));
+
+        QueryPlan plan = model.planLoanQuery(query);
+        assertEquals(Optional.empty(), plan.getIndexedConjunct());
+        assertEquals(query, plan.getResidualQuery());
+        assertTrue(plan.toString().contains("scan all loans"));
+
+        model.updateFilteredLoanList(query);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredLoanList());
+    }
+
+    @Test
+    public void updateFilteredLoanList_allLoansQuery_showsAllLoans() {
+        ModelManager model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+        model.updateFilteredLoanList(new TagQuery(new Tag("friends")));
+
+        QueryPlan plan = model.planLoanQuery(LoanQuery.all());
+        assertFalse(plan.hasResidualQuery());
+        model.updateFilteredLoanList(LoanQuery.all());
+        assertEquals(model.getLoanBook().getLoanList(), model.getFilteredLoanList());
+    }
+
     @Test
     public void getBike_bikeNotInLoanBook_returnsEmpty() {
         assertEquals(Optional.empty(), modelManager.getBike(VALID_NAME_BIKE1));
@@ -128,6 +261,82 @@ public class ModelManagerTest {
         assertTrue(prefs.getDefaultEmail().equals(userEmail));
     }
 
+    @Test
+    public void runTransaction_multipleMutations_oneEventAndOneUndoState() {
+        modelManager.addBike(BIKE1);
+        modelManager.commitLoanBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.runTransaction(() -> {
+            modelManager.getNextAvailableId();
+            modelManager.addLoan(ALICE);
+            modelManager.addBike(BIKE2);
+        });
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof LoanBookChangedEvent);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getLoanBook().getLoanList());
+
+        modelManager.undoLoanBook();
+        assertEquals(new LoanBookBuilder().withBike(BIKE1).build(), new LoanBook(modelManager.getLoanBook()));
+    }
+
+    @Test
+    public void runTransaction_nestedTransactions_oneEventAndOneUndoState() {
+        modelManager.runTransaction(() -> {
+            modelManager.addBike(BIKE1);
+            modelManager.runTransaction(() -> modelManager.addBike(BIKE2));
+        });
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+
+        modelManager.undoLoanBook();
+        assertEquals(new LoanBook(), new LoanBook(modelManager.getLoanBook()));
+        assertFalse(modelManager.canUndoLoanBook());
+    }
+
+    @Test
+    public void runTransaction_mutationsReturnResult_resultReturnedAndOneUndoState() {
+        LoanId nextId = modelManager.runTransaction(() -> {
+            modelManager.addBike(BIKE1);
+            return modelManager.getNextAvailableId();
+        });
+        assertEquals(LoanId.fromInt(0), nextId);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+
+        modelManager.undoLoanBook();
+        assertEquals(new LoanBook(), new LoanBook(modelManager.getLoanBook()));
+    }
+
+    @Test
+    public void runTransaction_nothingChanged_noEventAndNoUndoState() {
+        modelManager.addBike(BIKE1);
+        modelManager.commitLoanBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        boolean hasBike = modelManager.runTransaction(() -> modelManager.hasBike(BIKE1));
+        assertTrue(hasBike);
+        assertEquals(0, eventsCollectorRule.eventsCollector.getSize());
+
+        // undo goes back over the last change, not over the empty transaction
+        modelManager.undoLoanBook();
+        assertEquals(new LoanBook(), new LoanBook(modelManager.getLoanBook()));
+        assertFalse(modelManager.canUndoLoanBook());
+    }
+
+    @Test
+    public void runTransaction_mutationsThrow_changesDiscarded() {
+        modelManager.addBike(BIKE1);
+        modelManager.commitLoanBook();
+
+        assertThrows(DuplicateBikeException.class, () -> modelManager.runTransaction(() -> {
+            modelManager.addBike(BIKE2);
+            modelManager.addBike(BIKE1);
+        }));
+        assertEquals(new LoanBookBuilder().withBike(BIKE1).build(), new LoanBook(modelManager.getLoanBook()));
+
+        modelManager.undoLoanBook();
+        assertEquals(new LoanBook(), new LoanBook(modelManager.getLoanBook()));
+    }
+
     @Test
     public void equals() {
         LoanBook loanBook = new LoanBookBuilder()
@@ -167,4 +376,34 @@ public class ModelManagerTest {
         differentUserPrefs.setLoanBookFilePath(Paths.get("differentFilePath"));
         assertTrue(modelManager.equals(new ModelManager(loanBook, differentUserPrefs)));
     }
+
+    /**
+     * A query whose index is estimated to give more loans than any other, and which must not be looked up.
+     */
+    private static class LargeIndexedQueryStub extends LoanQuery {
+        @Override
+        public boolean test(Loan loan) {
+            return true;
+        }
+
+        @Override
+        public Optional<String> getIndexName() {
+            return Optional.of("large");
+        }
+
+        @Override
+        public OptionalInt estimateCount(Model model) {
+            return OptionalInt.of(Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Optional<List<Loan>> lookUp(Model model) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String toString() {
+            return "large";
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package loanbook.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void empty_hasNoItems() {
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    public void copyOf_list_sameItemsInOrder() {
+        List<String> items = Arrays.asList("a", "b", "c", "d", "e");
+        assertEquals(items, PersistentList.copyOf(items));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.copyOf(null);
+    }
+
+    @Test
+    public void with_replacesItem() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        assertEquals(Arrays.asList("a", "x", "c"), list.with(1, "x"));
+    }
+
+    @Test
+    public void plus_insertsItem() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        assertEquals(Arrays.asList("x", "a", "b", "c"), list.plus(0, "x"));
+        assertEquals(Arrays.asList("a", "b", "x", "c"), list.plus(2, "x"));
+        assertEquals(Arrays.asList("a", "b", "c", "x"), list.plus("x"));
+    }
+
+    @Test
+    public void minus_removesItem() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        assertEquals(Arrays.asList("b", "c"), list.minus(0));
+        assertEquals(Arrays.asList("a", "c"), list.minus(1));
+        assertEquals(Arrays.asList("a", "b"), list.minus(2));
+    }
+
+    @Test
+    public void updates_originalListUnchanged() {
+        List<String> items = Arrays.asList("a", "b", "c");
+        PersistentList<String> list = PersistentList.copyOf(items);
+        list.with(0, "x");
+        list.plus("x");
+        list.minus(1);
+        assertEquals(items, list);
+    }
+
+    @Test
+    public void updates_manyRandomUpdates_matchesArrayList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.copyOf(Arrays.asList("a")).get(1);
+    }
+
+    @Test
+    public void plus_nullItem_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.<String>empty().plus(null);
+    }
+}
@@ -1,20 +1,28 @@
 package loanbook.model;
 
+import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static loanbook.testutil.TypicalLoans.AMY;
 import static loanbook.testutil.TypicalLoans.BOB;
 import static loanbook.testutil.TypicalLoans.CARL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import loanbook.model.loan.Loan;
 import loanbook.testutil.LoanBookBuilder;
+import loanbook.testutil.LoanBuilder;
 
 public class VersionedLoanBookTest {
 
@@ -207,6 +215,146 @@ public class VersionedLoanBookTest {
         assertThrows(VersionedLoanBook.NoRedoableStateException.class, versionedLoanBook::redo);
     }
 
+    @Test
+    public void commit_undoLimitExceeded_earliestStateRemoved() {
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(emptyLoanBook, 2);
+        versionedLoanBook.replaceData(loanBookWithAmy);
+        versionedLoanBook.commit();
+        versionedLoanBook.replaceData(loanBookWithBob);
+        versionedLoanBook.commit();
+        versionedLoanBook.replaceData(loanBookWithCarl);
+        versionedLoanBook.commit();
+
+        assertLoanBookListStatus(versionedLoanBook,
+                Arrays.asList(loanBookWithAmy, loanBookWithBob),
+                loanBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_zeroUndoLimit_cannotUndo() {
+        VersionedLoanBook versionedLoanBook = new VersionedLoanBook(emptyLoanBook, 0);
+        versionedLoanBook.replaceData(loanBookWithAmy);
+        versionedLoanBook.commit();
+
+        assertFalse(versionedLoanBook.canUndo());
+        assertEquals(loanBookWithAmy, new LoanBook(versionedLoanBook));
+    }
+
+    @Test
+    public void constructor_negativeUndoLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedLoanBook(emptyLoanBook, -1));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedLoanBook versionedLoanBook = prepareLoanBookList(emptyLoanBook, loanBookWithAmy);
+        versionedLoanBook.addLoan(BOB);
+        versionedLoanBook.getNextAvailableLoanId();
+
+        versionedLoanBook.undo();
+        assertEquals(emptyLoanBook, new LoanBook(versionedLoanBook));
+
+        versionedLoanBook.redo();
+        assertEquals(loanBookWithAmy, new LoanBook(versionedLoanBook));
+    }
+
+    @Test
+    public void hasUncommittedChanges() {
+        VersionedLoanBook versionedLoanBook = prepareLoanBookList(loanBookWithAmy);
+        assertFalse(versionedLoanBook.hasUncommittedChanges());
+
+        // replacing a loan with itself -> returns false
+        versionedLoanBook.updateLoan(AMY, AMY);
+        assertFalse(versionedLoanBook.hasUncommittedChanges());
+
+        // Loan ID used -> returns true
+        versionedLoanBook.getNextAvailableLoanId();
+        assertTrue(versionedLoanBook.hasUncommittedChanges());
+
+        versionedLoanBook.commit();
+        assertFalse(versionedLoanBook.hasUncommittedChanges());
+
+        // loan added -> returns true
+        versionedLoanBook.addLoan(BOB);
+        assertTrue(versionedLoanBook.hasUncommittedChanges());
+    }
+
+    @Test
+    public void undo_itemsChangedInPlace_success() {
+        VersionedLoanBook versionedLoanBook = prepareLoanBookList(new LoanBookBuilder()
+                .withLoan(AMY).withLoan(BOB).withLoan(CARL).build());
+        LoanBook expectedLoanBook = new LoanBook(versionedLoanBook);
+
+        versionedLoanBook.removeLoan(BOB);
+        versionedLoanBook.commit();
+        Loan editedAmy = new LoanBuilder(AMY).withName(VALID_NAME_BOB).build();
+        versionedLoanBook.updateLoan(AMY, editedAmy);
+        versionedLoanBook.commit();
+        LoanBook editedLoanBook = new LoanBook(versionedLoanBook);
+
+        shiftCurrentStatePointerLeftwards(versionedLoanBook, 2);
+        assertEquals(expectedLoanBook, new LoanBook(versionedLoanBook));
+
+        versionedLoanBook.redo();
+        versionedLoanBook.redo();
+        assertEquals(editedLoanBook, new LoanBook(versionedLoanBook));
+    }
+
+    @Test
+    public void undoAndRedo_onlyStartTimeChanged_startTimeRestored() {
+        VersionedLoanBook versionedLoanBook = prepareLoanBookList(new LoanBookBuilder()
+                .withLoan(AMY).withLoan(BOB).build());
+        // the edited loan is equal to the original, as the times of a loan are left out of its equality
+        Loan editedAmy = new LoanBuilder(AMY).withLoanStartTime("2018-01-01 10:00").build();
+        versionedLoanBook.updateLoan(AMY, editedAmy);
+        versionedLoanBook.commit();
+
+        versionedLoanBook.undo();
+        assertSame(AMY, versionedLoanBook.getLoanList().get(0));
+
+        versionedLoanBook.redo();
+        assertSame(editedAmy, versionedLoanBook.getLoanList().get(0));
+    }
+
+    @Test
+    public void undoAndRedo_setLoansChangingOneLoan_onlyThatLoanReplaced() {
+        VersionedLoanBook versionedLoanBook = prepareLoanBookList(new LoanBookBuilder()
+                .withLoan(AMY).withLoan(BOB).withLoan(CARL).build());
+        Loan editedBob = new LoanBuilder(BOB).withName(VALID_NAME_AMY).build();
+        versionedLoanBook.setLoans(Arrays.asList(AMY, editedBob, CARL));
+        versionedLoanBook.commit();
+
+        List<String> changes = recordChanges(versionedLoanBook.getLoanList());
+
+        versionedLoanBook.undo();
+        assertEquals(Collections.singletonList("replaced [" + editedBob + "] with [" + BOB + "] at 1"), changes);
+
+        changes.clear();
+        versionedLoanBook.redo();
+        assertEquals(Collections.singletonList("replaced [" + BOB + "] with [" + editedBob + "] at 1"), changes);
+    }
+
+    @Test
+    public void undoAndRedo_addAndRemoveLoans_onlyThoseLoansAddedOrRemoved() {
+        VersionedLoanBook versionedLoanBook = prepareLoanBookList(loanBookWithAmy);
+        versionedLoanBook.addLoan(BOB);
+        versionedLoanBook.commit();
+        versionedLoanBook.removeLoan(AMY);
+        versionedLoanBook.commit();
+
+        List<String> changes = recordChanges(versionedLoanBook.getLoanList());
+
+        versionedLoanBook.undo();
+        versionedLoanBook.undo();
+        assertEquals(Arrays.asList("replaced [] with [" + AMY + "] at 0", "replaced [" + BOB + "] with [] at 1"),
+                changes);
+
+        changes.clear();
+        versionedLoanBook.redo();
+        assertEquals(Collections.singletonList("replaced [] with [" + BOB + "] at 1"), changes);
+    }
+
     @Test
     public void equals() {
         VersionedLoanBook versionedLoanBook = prepareLoanBookList(loanBookWithAmy, loanBookWithBob);
@@ -287,6 +435,31 @@ public class VersionedLoanBookTest {
         return versionedLoanBook;
     }
 
+    /**
+     * Returns a list to which a description of every change made to {@code loans} is added.
+     */
+    private static List<String> recordChanges(ObservableList<Loan> loans) {
+        List<String> changes = new ArrayList<>();
+        loans.addListener((ListChangeListener.Change<? extends Loan> change) -> changes.add(describeChange(change)));
+        return changes;
+    }
+
+    /**
+     * Returns a description of the replacements of items made in {@code change}.
+     */
+    private static String describeChange(ListChangeListener.Change<? extends Loan> change) {
+        StringBuilder description = new StringBuilder();
+        while (change.next()) {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append("replaced ").append(change.getRemoved())
+                    .append(" with ").append(change.getAddedSubList())
+                    .append(" at ").append(change.getFrom());
+        }
+        return description.toString();
+    }
+
     /**
      * Shifts the {@code versionedLoanBook#currentStatePointer} by {@code count} to the left of its list.
      */
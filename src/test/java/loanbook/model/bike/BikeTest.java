@@ -26,6 +26,15 @@ public class BikeTest {
         assertFalse(BIKE1.isSame(editedBike1));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same name -> same identity key
+        assertEquals(BIKE1.getIdentityKey(), new BikeBuilder(BIKE1).build().getIdentityKey());
+
+        // different name -> different identity key
+        assertFalse(BIKE1.getIdentityKey().equals(BIKE2.getIdentityKey()));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
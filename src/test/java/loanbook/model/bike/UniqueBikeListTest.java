@@ -4,6 +4,8 @@ import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BIKE1;
 import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BIKE2;
 import static loanbook.testutil.TypicalBikes.BIKE1;
 import static loanbook.testutil.TypicalBikes.BIKE2;
+import static loanbook.testutil.TypicalBikes.BIKE3;
+import static loanbook.testutil.TypicalBikes.BIKE4;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -19,6 +21,7 @@ import org.junit.rules.ExpectedException;
 
 import loanbook.model.bike.exceptions.BikeNotFoundException;
 import loanbook.model.bike.exceptions.DuplicateBikeException;
+import loanbook.testutil.BikeBuilder;
 
 public class UniqueBikeListTest {
     @Rule
@@ -43,6 +46,22 @@ public class UniqueBikeListTest {
         assertTrue(uniqueBikeList.contains(BIKE1));
     }
 
+    @Test
+    public void containsBikeAfterSetToDifferentIdentityReturnsFalse() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.set(BIKE1, BIKE2);
+        assertFalse(uniqueBikeList.contains(BIKE1));
+        assertTrue(uniqueBikeList.contains(BIKE2));
+    }
+
+    @Test
+    public void containsBikeAfterSetAllReturnsFalse() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.setAll(Collections.singletonList(BIKE2));
+        assertFalse(uniqueBikeList.contains(BIKE1));
+        assertTrue(uniqueBikeList.contains(BIKE2));
+    }
+
     @Test
     public void addNullBikeThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -175,4 +194,48 @@ public class UniqueBikeListTest {
         uniqueBikeList.add(BIKE1);
         assertEquals(Optional.empty(), uniqueBikeList.getBike(VALID_NAME_BIKE2));
     }
+
+    @Test
+    public void getBikeAfterSetToDifferentNameReturnsEditedBike() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.set(BIKE1, BIKE2);
+        assertEquals(Optional.empty(), uniqueBikeList.getBike(VALID_NAME_BIKE1));
+        assertEquals(Optional.of(BIKE2), uniqueBikeList.getBike(VALID_NAME_BIKE2));
+    }
+
+    @Test
+    public void getBikesWithNamePrefixIgnoresCase() {
+        uniqueBikeList.setAll(Arrays.asList(BIKE1, BIKE2, BIKE3, BIKE4));
+        assertEquals(Arrays.asList(BIKE1, BIKE2), uniqueBikeList.getBikesWithNamePrefix("bike"));
+        assertEquals(Arrays.asList(BIKE4), uniqueBikeList.getBikesWithNamePrefix("BLUE o"));
+        assertEquals(Arrays.asList(BIKE3), uniqueBikeList.getBikesWithNamePrefix("Silver Surfer"));
+    }
+
+    @Test
+    public void getBikesWithNamePrefixEmptyPrefixReturnsAllBikesSortedByName() {
+        uniqueBikeList.setAll(Arrays.asList(BIKE3, BIKE2, BIKE4, BIKE1));
+        assertEquals(Arrays.asList(BIKE1, BIKE2, BIKE4, BIKE3), uniqueBikeList.getBikesWithNamePrefix(""));
+    }
+
+    @Test
+    public void getBikesWithNamePrefixNoMatchReturnsEmptyList() {
+        uniqueBikeList.setAll(Arrays.asList(BIKE1, BIKE2));
+        assertEquals(Collections.emptyList(), uniqueBikeList.getBikesWithNamePrefix("bike0010"));
+        assertEquals(Collections.emptyList(), uniqueBikeList.getBikesWithNamePrefix("Silver"));
+    }
+
+    @Test
+    public void getBikesWithNamePrefixAfterMutationsReturnsCurrentBikes() {
+        uniqueBikeList.add(BIKE1);
+        uniqueBikeList.add(BIKE2);
+        Bike renamedBike = new BikeBuilder().withName("Bicycle").build();
+        uniqueBikeList.set(BIKE2, renamedBike);
+        assertEquals(Arrays.asList(renamedBike, BIKE1), uniqueBikeList.getBikesWithNamePrefix("bi"));
+
+        uniqueBikeList.remove(BIKE1);
+        assertEquals(Arrays.asList(renamedBike), uniqueBikeList.getBikesWithNamePrefix("bi"));
+
+        uniqueBikeList.setAll(Arrays.asList(BIKE3));
+        assertEquals(Collections.emptyList(), uniqueBikeList.getBikesWithNamePrefix("bi"));
+    }
 }
@@ -0,0 +1,106 @@
+package loanbook.model.loan;
+
+import static loanbook.testutil.TypicalLoans.ALICE;
+import static loanbook.testutil.TypicalLoans.BOB;
+import static loanbook.testutil.TypicalLoans.ELLE;
+import static loanbook.testutil.TypicalLoans.GEORGE;
+import static loanbook.testutil.TypicalLoans.getTypicalLoans;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import loanbook.testutil.LoanBuilder;
+
+public class LoanColumnsTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueLoanList uniqueLoanList = new UniqueLoanList();
+
+    @Test
+    public void getColumns_loans_rowsMatchLoansInOrder() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        assertColumnsMatch(uniqueLoanList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getColumns_returnedLoan_timesAndCostStored() {
+        uniqueLoanList.add(ELLE);
+        LoanColumns columns = uniqueLoanList.getColumns();
+        assertEquals(ELLE.getLoanStartTime().epochMinutes, columns.getStartMinutes(0));
+        assertEquals(ELLE.getLoanEndTime().epochMinutes, columns.getEndMinutes(0));
+        assertEquals(ELLE.getLoanStartTime().loanTimeDifferenceMinutes(ELLE.getLoanEndTime()),
+                columns.getDurationMinutes(0));
+        assertEquals(ELLE.calculateCostCents(), columns.getCostCents(0));
+    }
+
+    @Test
+    public void getColumns_loansRemoved_rowsMatchRemainingLoans() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        uniqueLoanList.remove(ALICE);
+        uniqueLoanList.remove(GEORGE);
+        assertColumnsMatch(uniqueLoanList.asUnmodifiableObservableList());
+
+        uniqueLoanList.setAll(Collections.emptyList());
+        assertEquals(0, uniqueLoanList.getColumns().size());
+    }
+
+    @Test
+    public void getColumns_loanSet_rowsMatchLoans() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        uniqueLoanList.set(ALICE, new LoanBuilder(ALICE).withLoanRate("2.50").withLoanStatus("RETURNED").build());
+        uniqueLoanList.add(BOB);
+        assertColumnsMatch(uniqueLoanList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void summaryOfColumns_equalsSummaryOfLoans() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        uniqueLoanList.remove(ELLE);
+        uniqueLoanList.add(BOB);
+        assertEquals(uniqueLoanList.getSummary(), new Summary(uniqueLoanList.getColumns()));
+    }
+
+    @Test
+    public void getColumns_listUnchanged_sameColumns() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        LoanColumns columns = uniqueLoanList.getColumns();
+        assertSame(columns, uniqueLoanList.getColumns());
+
+        // columns which were already returned do not follow later changes
+        uniqueLoanList.remove(ALICE);
+        assertEquals(getTypicalLoans().size(), columns.size());
+        assertNotSame(columns, uniqueLoanList.getColumns());
+    }
+
+    @Test
+    public void getLoanId_rowOutOfBounds_throwsIndexOutOfBoundsException() {
+        uniqueLoanList.add(ALICE);
+        thrown.expect(IndexOutOfBoundsException.class);
+        uniqueLoanList.getColumns().getLoanId(1);
+    }
+
+    /**
+     * Asserts that the rows of the columns of {@code uniqueLoanList} hold the fields of {@code loans}, in order.
+     */
+    private void assertColumnsMatch(List<Loan> loans) {
+        LoanColumns columns = uniqueLoanList.getColumns();
+        List<String> expectedRows = loans.stream()
+                .map(loan -> loan.getLoanId().value + " " + loan.getLoanRate().getCentsPerHour() + " "
+                        + loan.getLoanStatus() + " " + loan.getBike().getName().value)
+                .collect(Collectors.toList());
+        List<String> actualRows = columns.rows()
+                .mapToObj(row -> columns.getLoanId(row) + " " + columns.getRateCents(row) + " "
+                        + columns.getStatus(row) + " " + columns.getBikeName(columns.getBikeOrdinal(row)))
+                .collect(Collectors.toList());
+        assertEquals(expectedRows, actualRows);
+    }
+}
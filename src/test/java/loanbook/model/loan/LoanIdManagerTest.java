@@ -41,7 +41,7 @@ public class LoanIdManagerTest {
 
             assertEquals(expectedLoanId, actualLoanId);
             assertEquals(expectedLoanId, idManager.getLastUsedLoanId());
-            assertEquals(id, (int) actualLoanId.value);
+            assertEquals(id, actualLoanId.value);
         }
     }
 
@@ -59,7 +59,7 @@ public class LoanIdManagerTest {
 
         assertEquals(expectedLoanId, nextAvailableLoanId);
         assertEquals(expectedLoanId, idManager.getLastUsedLoanId());
-        assertEquals(501, (int) nextAvailableLoanId.value);
+        assertEquals(501, nextAvailableLoanId.value);
     }
 
     @SuppressWarnings("Duplicates")
@@ -77,7 +77,7 @@ public class LoanIdManagerTest {
 
             assertEquals(expectedLoanId, actualLoanId);
             assertEquals(expectedLoanId, idManager.getLastUsedLoanId());
-            assertEquals(id, (int) actualLoanId.value);
+            assertEquals(id, actualLoanId.value);
         }
     }
 
@@ -92,7 +92,7 @@ public class LoanIdManagerTest {
         LoanId actualLoanId = idManagerFromNullId.getNextAvailableLoanId();
 
         assertEquals(expectedLoanId, actualLoanId);
-        assertEquals(0, (int) actualLoanId.value);
+        assertEquals(0, actualLoanId.value);
     }
 
     @Test
@@ -122,7 +122,7 @@ public class LoanIdManagerTest {
             // Value check
             assertEquals(expectedLoanId, actualLoanId);
             assertEquals(expectedLoanId, idManager.getLastUsedLoanId());
-            assertEquals(expectedIdValue, (int) actualLoanId.value);
+            assertEquals(expectedIdValue, actualLoanId.value);
 
             // Maximum check
             if (i < offset) {
@@ -4,6 +4,7 @@ import static loanbook.testutil.Assert.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -50,11 +51,11 @@ public class LoanIdTest {
         LoanId id4 = new LoanId("0008472"); // Leading zeroes
         LoanId id5 = new LoanId("999999999"); // Maximum value
 
-        assertEquals(245, (int) id1.value);
-        assertEquals(0, (int) id2.value);
-        assertEquals(0, (int) id3.value);
-        assertEquals(8472, (int) id4.value);
-        assertEquals(999999999, (int) id5.value);
+        assertEquals(245, id1.value);
+        assertEquals(0, id2.value);
+        assertEquals(0, id3.value);
+        assertEquals(8472, id4.value);
+        assertEquals(999999999, id5.value);
     }
 
     @Test
@@ -96,13 +97,23 @@ public class LoanIdTest {
         LoanId loanId2Int = LoanId.fromInt(287472); // Standard Loan ID constructed from int
         LoanId loanId2String = new LoanId("287472"); // Same ID constructed from String
 
-        assertEquals(404, (int) loanId1Int.value);
+        assertEquals(404, loanId1Int.value);
         assertEquals(loanId1Int, loanId1String);
 
-        assertEquals(287472, (int) loanId2Int.value);
+        assertEquals(287472, loanId2Int.value);
         assertEquals(loanId2Int, loanId2String);
     }
 
+    @Test
+    public void integerConstructorSharesSmallLoanIds() {
+        assertSame(LoanId.fromInt(0), LoanId.fromInt(0));
+        assertSame(LoanId.fromInt(404), LoanId.fromInt(404));
+
+        // Loan IDs which are not shared are still equal
+        assertEquals(LoanId.fromInt(287472), LoanId.fromInt(287472));
+        assertEquals(LoanId.fromInt(287472).hashCode(), LoanId.fromInt(287472).hashCode());
+    }
+
     @Test
     public void invalidIntegerConstructorTest() {
         assertThrows(IllegalArgumentException.class, () -> LoanId.fromInt(-1)); // Negative number
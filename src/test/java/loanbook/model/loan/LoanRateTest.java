@@ -1,5 +1,6 @@
 package loanbook.model.loan;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -34,6 +35,7 @@ public class LoanRateTest {
         assertFalse(LoanRate.isValidRate("1.123")); // has more than two decimal places
         assertFalse(LoanRate.isValidRate("9278ncb")); // alphabets within digits
         assertFalse(LoanRate.isValidRate("12 34")); // spaces within digits
+        assertFalse(LoanRate.isValidRate("82472637826762258923")); // too many digits to be kept in cents
 
         // valid rates
         assertTrue(LoanRate.isValidRate("0"));
@@ -41,7 +43,38 @@ public class LoanRateTest {
         assertTrue(LoanRate.isValidRate("1.00"));
         assertTrue(LoanRate.isValidRate("12.01"));
         assertTrue(LoanRate.isValidRate("1234567890"));
-        assertTrue(LoanRate.isValidRate("82472637826762258923"));
+        assertTrue(LoanRate.isValidRate("999999999999999.99"));
         assertTrue(LoanRate.isValidRate("0.22"));
     }
+
+    @Test
+    public void constructor_validRate_keptInCents() {
+        assertEquals(0, new LoanRate("0").getCentsPerHour());
+        assertEquals(350, new LoanRate("3.5").getCentsPerHour());
+        assertEquals(1205, new LoanRate("12.05").getCentsPerHour());
+        assertEquals(99999999999999999L, new LoanRate("999999999999999.99").getCentsPerHour());
+    }
+
+    @Test
+    public void toString_formattedWithOneOrTwoDecimalPlaces() {
+        assertEquals("0.0", new LoanRate("0").toString());
+        assertEquals("3.5", new LoanRate("3.50").toString());
+        assertEquals("12.05", new LoanRate("12.05").toString());
+        assertEquals("12500000.0", new LoanRate("12500000").toString());
+    }
+
+    @Test
+    public void calculateCostCents() {
+        // 10 minutes at $6.00 an hour is exactly $1.00
+        assertEquals(100, new LoanRate("6").calculateCostCents(10));
+
+        // 1 minute at $0.59 an hour is 0.98... cents, rounded down
+        assertEquals(0, new LoanRate("0.59").calculateCostCents(1));
+
+        // 146 minutes at $24.29 an hour is 5910.56... cents, rounded down
+        assertEquals(5910, new LoanRate("24.29").calculateCostCents(146));
+
+        // A large rate for a long time does not overflow while the cost fits in a long
+        assertEquals(99999999999999999L * 24, LoanRate.calculateCostCents(99999999999999999L, 24 * 60));
+    }
 }
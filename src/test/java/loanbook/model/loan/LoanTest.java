@@ -40,64 +40,30 @@ public class LoanTest {
         // null -> returns false
         assertFalse(ALICE.isSame(null));
 
-        // different name -> returns false
-        Loan editedAlice = new LoanBuilder(ALICE).withName(VALID_NAME_BOB).build();
-        assertFalse(ALICE.isSame(editedAlice));
-
-        // different nric -> returns false
-        editedAlice = new LoanBuilder(ALICE).withNric(VALID_NRIC_BOB).build();
-        assertFalse(ALICE.isSame(editedAlice));
-
-        // different bike -> returns false
-        editedAlice = new LoanBuilder(ALICE).withBike(VALID_NAME_BIKE2).build();
-        assertFalse(ALICE.isSame(editedAlice));
-
-        // different phone, email, rate and time -> returns false
-        editedAlice = new LoanBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
-                .withLoanRate(VALID_LOANRATE_BOB).withLoanStartTime(VALID_LOANSTARTTIME_BOB).build();
+        // different Loan ID -> returns false
+        Loan editedAlice = new LoanBuilder(ALICE).withLoanId("1234").build();
         assertFalse(ALICE.isSame(editedAlice));
 
-        // same identity fields, same phone, different attributes -> returns true
-        editedAlice = new LoanBuilder(ALICE).withEmail(VALID_EMAIL_BOB)
-                .withTags(VALID_TAG_HUSBAND).build();
-        assertTrue(ALICE.isSame(editedAlice));
-
-        // same identity fields, same email, different attributes -> returns true
-        editedAlice = new LoanBuilder(ALICE).withPhone(VALID_PHONE_BOB)
-                .withTags(VALID_TAG_HUSBAND).build();
-        assertTrue(ALICE.isSame(editedAlice));
-
-        // same identity fields, same phone, same email, different attributes -> returns true
-        editedAlice = new LoanBuilder(ALICE)
-                .withTags(VALID_TAG_HUSBAND).build();
-        assertTrue(ALICE.isSame(editedAlice));
-
-        // same identity fields, different rate -> returns true
-        editedAlice = new LoanBuilder(ALICE).withLoanRate(VALID_LOANRATE_BOB)
-                .withTags(VALID_TAG_HUSBAND).build();
-        assertTrue(ALICE.isSame(editedAlice));
-
-        // same identity fields, different startTime -> returns true
-        editedAlice = new LoanBuilder(ALICE).withLoanStartTime(VALID_LOANSTARTTIME_BOB)
-                .withTags(VALID_TAG_HUSBAND).build();
+        // same Loan ID, every other field different -> returns true
+        editedAlice = new LoanBuilder(BOB).withLoanId(ALICE.getLoanId().toString()).build();
         assertTrue(ALICE.isSame(editedAlice));
 
-        // same identity fields, different endtime -> returns true
-        editedAlice = new LoanBuilder(ALICE).withLoanEndTime(VALID_LOANSTARTTIME_BOB)
-                .withTags(VALID_TAG_HUSBAND).build();
+        // same Loan ID, different name, NRIC and bike -> returns true
+        editedAlice = new LoanBuilder(ALICE).withName(VALID_NAME_BOB).withNric(VALID_NRIC_BOB)
+                .withBike(VALID_NAME_BIKE2).build();
         assertTrue(ALICE.isSame(editedAlice));
+    }
 
-        // same identity fields, different rate and startTime -> returns true
-        editedAlice = new LoanBuilder(ALICE).withLoanRate(VALID_LOANRATE_BOB)
-                .withLoanStartTime(VALID_LOANSTARTTIME_BOB)
+    @Test
+    public void getIdentityKey() {
+        // same identity fields -> same identity key
+        Loan editedAlice = new LoanBuilder(ALICE).withLoanRate(VALID_LOANRATE_BOB)
                 .withTags(VALID_TAG_HUSBAND).build();
         assertTrue(ALICE.isSame(editedAlice));
+        assertEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
 
-        // same identity fields, different rate and endTime -> returns true
-        editedAlice = new LoanBuilder(ALICE).withLoanRate(VALID_LOANRATE_BOB)
-                .withLoanEndTime(VALID_LOANSTARTTIME_BOB)
-                .withTags(VALID_TAG_HUSBAND).build();
-        assertTrue(ALICE.isSame(editedAlice));
+        // different Loan ID -> different identity key
+        assertFalse(ALICE.getIdentityKey().equals(new LoanBuilder(ALICE).withLoanId("123").build().getIdentityKey()));
     }
 
     @Test
@@ -128,7 +94,7 @@ public class LoanTest {
                 ALICE.getTags());
 
         // 10 minutes, at $6 an hour, = $1
-        assertEquals(loan1.calculateCost(), 1.00, 0.005);
+        assertEquals(100, loan1.calculateCostCents());
 
         Loan loan2 = new Loan(ALICE.getLoanId(),
                 ALICE.getName(),
@@ -142,7 +108,7 @@ public class LoanTest {
                 ALICE.getTags());
 
         // 1 day = 24 hours, at $12.50 an hour, = $300
-        assertEquals(loan2.calculateCost(), 300.00, 0.005);
+        assertEquals(30000, loan2.calculateCostCents());
 
         Loan loan3 = new Loan(ALICE.getLoanId(),
                 ALICE.getName(),
@@ -155,8 +121,8 @@ public class LoanTest {
                 new LoanTime("2001-02-04 21:32"),
                 ALICE.getTags());
 
-        // 2 hours 26 minutes, at $24.29 an hour, = $59.10
-        assertEquals(loan3.calculateCost(), 59.105, 0.005);
+        // 2 hours 26 minutes, at $24.29 an hour, = $59.1056..., rounded down to $59.10
+        assertEquals(5910, loan3.calculateCostCents());
     }
 
     @Test
@@ -194,6 +160,21 @@ public class LoanTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalLoans_equalHashCodes() {
+        Loan aliceCopy = new LoanBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+
+        // equal loans with different start times, which equals does not compare -> same hash code
+        Loan aliceWithOtherStartTime = new LoanBuilder(ALICE).withLoanStartTime(VALID_LOANSTARTTIME_BOB).build();
+        assertTrue(ALICE.equals(aliceWithOtherStartTime));
+        assertEquals(ALICE.hashCode(), aliceWithOtherStartTime.hashCode());
+
+        // same Loan ID but different tags -> different hash code
+        Loan aliceWithOtherTags = new LoanBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertFalse(ALICE.hashCode() == aliceWithOtherTags.hashCode());
+    }
+
     @Test
     public void loanBuilderWithStatusConstructor() {
         Loan loan = new LoanBuilder().withLoanStatus("RETURNED").build();
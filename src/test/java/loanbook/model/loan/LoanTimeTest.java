@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
 import org.junit.Test;
@@ -184,6 +185,41 @@ public class LoanTimeTest {
         assertNotEquals(loanTime1, loanTime4); // Different time
     }
 
+    @Test
+    public void constructorInputMatchesJavaTime() {
+        // The dates are converted by hand, so check them against java.time across leap years and centuries.
+        String[] dateTimes = {"0000-01-01 00:00", "1900-02-28 23:59", "1900-03-01 00:00", "1969-12-31 23:59",
+            "1970-01-01 00:00", "2000-02-29 12:34", "2012-02-29 00:00", "2100-03-01 08:15", "9999-12-31 23:59"};
+        for (String dateTime : dateTimes) {
+            LoanTime loanTime = new LoanTime(dateTime);
+            assertEquals(dateTime, loanTime.toString());
+
+            // Offsets of time zones before 1970 may include seconds, which a LoanTime does not keep.
+            if (dateTime.compareTo("1970") >= 0) {
+                long expectedEpochMinutes = LocalDateTime.parse(dateTime, EXPECTED_DATETIME_FORMAT)
+                        .atZone(ZoneId.systemDefault()).toEpochSecond() / 60;
+                assertEquals(expectedEpochMinutes, loanTime.epochMinutes);
+            }
+        }
+    }
+
+    @Test
+    public void compareTimes() {
+        LoanTime earlier = new LoanTime("2103-01-01 12:00");
+        LoanTime later = new LoanTime("2103-01-01 12:01");
+
+        assertTrue(earlier.isBefore(later));
+        assertFalse(later.isBefore(earlier));
+        assertFalse(earlier.isBefore(new LoanTime("2103-01-01 12:00"))); // Same time
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new LoanTime("2103-01-01 12:00")));
+
+        assertTrue(new LoanTime("2103-01-01 12:00").isBetweenRange(new LoanTime("2103-01-01 11:59"), later));
+        assertFalse(earlier.isBetweenRange(earlier, later)); // The range does not include its ends
+    }
+
     @Test
     public void constructorsDoesNotThrowErrorTest() {
         LoanTime loanTime1 = new LoanTime();
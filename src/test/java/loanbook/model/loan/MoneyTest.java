@@ -0,0 +1,41 @@
+package loanbook.model.loan;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import loanbook.testutil.Assert;
+
+public class MoneyTest {
+
+    @Test
+    public void parseCents_validAmount_returnsCents() {
+        assertEquals(0, Money.parseCents("0"));
+        assertEquals(1200, Money.parseCents("12"));
+        assertEquals(1250, Money.parseCents("12.5"));
+        assertEquals(1205, Money.parseCents("12.05"));
+    }
+
+    @Test
+    public void parseCents_invalidAmount_throwsNumberFormatException() {
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parseCents(""));
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parseCents("12."));
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parseCents(".5"));
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parseCents("1.234"));
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parseCents("-1"));
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parseCents("1e5"));
+    }
+
+    @Test
+    public void parseCents_tooLarge_throwsArithmeticException() {
+        Assert.assertThrows(ArithmeticException.class, () -> Money.parseCents("92233720368547758.08"));
+    }
+
+    @Test
+    public void format() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("12.50", Money.format(1250));
+        assertEquals("-3.07", Money.format(-307));
+    }
+}
@@ -1,20 +1,38 @@
 package loanbook.model.loan;
 
+import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BIKE3;
 import static loanbook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static loanbook.testutil.TypicalBikes.BIKE1;
+import static loanbook.testutil.TypicalBikes.BIKE2;
+import static loanbook.testutil.TypicalBikes.BIKE3;
 import static loanbook.testutil.TypicalLoans.ALICE;
+import static loanbook.testutil.TypicalLoans.AMY;
+import static loanbook.testutil.TypicalLoans.BENSON;
 import static loanbook.testutil.TypicalLoans.BOB;
+import static loanbook.testutil.TypicalLoans.CARL;
+import static loanbook.testutil.TypicalLoans.DANIEL;
+import static loanbook.testutil.TypicalLoans.ELLE;
+import static loanbook.testutil.TypicalLoans.FIONA;
+import static loanbook.testutil.TypicalLoans.GEORGE;
+import static loanbook.testutil.TypicalLoans.getTypicalLoans;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import loanbook.model.PersistentList;
 import loanbook.model.loan.exceptions.DuplicateLoanException;
 import loanbook.model.loan.exceptions.LoanNotFoundException;
 import loanbook.testutil.LoanBuilder;
@@ -50,6 +68,54 @@ public class UniqueLoanListTest {
         assertTrue(uniqueLoanList.contains(editedAlice));
     }
 
+    @Test
+    public void containsLoanWithSameLoanIdButOtherFieldsDifferentReturnsTrue() {
+        uniqueLoanList.add(AMY);
+        Loan loanWithIdOfAmy = new LoanBuilder(BOB).withLoanId(AMY.getLoanId().toString()).build();
+        assertTrue(uniqueLoanList.contains(loanWithIdOfAmy));
+        assertFalse(uniqueLoanList.contains(BOB));
+    }
+
+    @Test
+    public void containsLoanAfterRemovalReturnsFalse() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.remove(ALICE);
+        assertFalse(uniqueLoanList.contains(ALICE));
+    }
+
+    @Test
+    public void containsLoanAfterSetToDifferentIdentityReturnsFalse() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.set(ALICE, BOB);
+        assertFalse(uniqueLoanList.contains(ALICE));
+        assertTrue(uniqueLoanList.contains(BOB));
+    }
+
+    @Test
+    public void setAndRemove_afterItemsShifted_replaceAndRemoveCorrectLoans() {
+        uniqueLoanList.setAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        Loan editedCarl = new LoanBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        Loan editedElle = new LoanBuilder(ELLE).withTags(VALID_TAG_HUSBAND).build();
+
+        uniqueLoanList.remove(BENSON);
+        // the target only needs to be equal to the loan in the list
+        uniqueLoanList.set(new LoanBuilder(CARL).build(), editedCarl);
+        uniqueLoanList.add(FIONA);
+        uniqueLoanList.remove(ALICE);
+        uniqueLoanList.set(ELLE, editedElle);
+        uniqueLoanList.remove(FIONA);
+
+        assertEquals(Arrays.asList(editedCarl, DANIEL, editedElle), uniqueLoanList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void containsLoanAfterSetAllReturnsFalse() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.setAll(Collections.singletonList(BOB));
+        assertFalse(uniqueLoanList.contains(ALICE));
+        assertTrue(uniqueLoanList.contains(BOB));
+    }
+
     @Test
     public void addNullLoanThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -118,6 +184,74 @@ public class UniqueLoanListTest {
         uniqueLoanList.set(ALICE, BOB);
     }
 
+    @Test
+    public void setEach_loansOfBike_replacesLoansAndUpdatesIndexes() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        List<Loan> targets = Arrays.asList(DANIEL, FIONA, ELLE, GEORGE);
+        List<Loan> editedLoans = new ArrayList<>();
+        for (Loan target : targets) {
+            editedLoans.add(new LoanBuilder(target).withBike(VALID_NAME_BIKE3).build());
+        }
+
+        uniqueLoanList.setEach(targets, editedLoans);
+
+        List<Loan> expectedLoans = new ArrayList<>(getTypicalLoans());
+        for (int i = 0; i < targets.size(); i++) {
+            expectedLoans.set(expectedLoans.indexOf(targets.get(i)), editedLoans.get(i));
+        }
+        assertEquals(expectedLoans, uniqueLoanList.asUnmodifiableObservableList());
+        assertEquals(Collections.emptyList(), uniqueLoanList.getOngoingLoansOfBike(BIKE2));
+        assertEquals(Collections.emptyList(), uniqueLoanList.getReturnedLoansOfBike(BIKE2));
+        assertEquals(editedLoans.subList(0, 2), uniqueLoanList.getOngoingLoansOfBike(BIKE3));
+        assertEquals(editedLoans.subList(2, 4), uniqueLoanList.getReturnedLoansOfBike(BIKE3));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, editedLoans.get(0), editedLoans.get(1)),
+                uniqueLoanList.asUnmodifiableOngoingLoanList());
+        assertEquals(editedLoans.subList(2, 4), uniqueLoanList.asUnmodifiableReturnedLoanList());
+        assertEquals(summarize(expectedLoans), uniqueLoanList.getSummary());
+    }
+
+    @Test
+    public void setEach_targetLoanNotInList_throwsLoanNotFoundException() {
+        uniqueLoanList.add(ALICE);
+        thrown.expect(LoanNotFoundException.class);
+        uniqueLoanList.setEach(Arrays.asList(ALICE, BOB), Arrays.asList(ALICE, BOB));
+    }
+
+    @Test
+    public void setEach_editedLoanHasNonUniqueIdentity_throwsDuplicateLoanExceptionAndListUnchanged() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.add(BOB);
+        Loan editedAlice = new LoanBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        try {
+            uniqueLoanList.setEach(Arrays.asList(ALICE, BOB), Arrays.asList(editedAlice, ALICE));
+            throw new AssertionError("Expected a DuplicateLoanException.");
+        } catch (DuplicateLoanException e) {
+            assertEquals(Arrays.asList(ALICE, BOB), uniqueLoanList.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void replaceRange_replacementHasSameLoanIdAsOtherLoan_throwsDuplicateLoanExceptionAndListUnchanged() {
+        uniqueLoanList.setAll(Arrays.asList(ALICE, BOB, CARL));
+        Loan loanWithCarlsId = new LoanBuilder(AMY).withLoanId(CARL.getLoanId().toString()).build();
+        try {
+            uniqueLoanList.replaceRange(0, 2, Arrays.asList(AMY, loanWithCarlsId));
+            throw new AssertionError("Expected a DuplicateLoanException.");
+        } catch (DuplicateLoanException e) {
+            assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueLoanList.asUnmodifiableObservableList());
+            assertEquals(Optional.of(ALICE), uniqueLoanList.getLoanById(ALICE.getLoanId()));
+            assertEquals(Optional.of(BOB), uniqueLoanList.getLoanById(BOB.getLoanId()));
+            assertEquals(Optional.of(CARL), uniqueLoanList.getLoanById(CARL.getLoanId()));
+            assertEquals(Optional.empty(), uniqueLoanList.getLoanById(AMY.getLoanId()));
+        }
+
+        // the replaced loans can be replaced by loans with their own Loan IDs
+        Loan editedAlice = new LoanBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniqueLoanList.replaceRange(0, 2, Arrays.asList(BOB, editedAlice));
+        assertEquals(Arrays.asList(BOB, editedAlice, CARL), uniqueLoanList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(editedAlice), uniqueLoanList.getLoanById(ALICE.getLoanId()));
+    }
+
     @Test
     public void removeNullLoanThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -153,6 +287,30 @@ public class UniqueLoanListTest {
         assertEquals(expectedUniqueLoanList, uniqueLoanList);
     }
 
+    @Test
+    public void setUniqueLoanListCopiesIdentityIndexOfProvidedUniqueLoanList() {
+        UniqueLoanList otherUniqueLoanList = new UniqueLoanList();
+        otherUniqueLoanList.add(ALICE);
+        uniqueLoanList.setAll(otherUniqueLoanList);
+        assertTrue(uniqueLoanList.contains(ALICE));
+        assertEquals(Optional.of(ALICE), uniqueLoanList.getLoanById(ALICE.getLoanId()));
+
+        // the copied index is not shared with the provided list
+        uniqueLoanList.remove(ALICE);
+        assertFalse(uniqueLoanList.contains(ALICE));
+        assertTrue(otherUniqueLoanList.contains(ALICE));
+        thrown.expect(DuplicateLoanException.class);
+        otherUniqueLoanList.add(ALICE);
+    }
+
+    @Test
+    public void setUniqueLoanListToItself_listUnchanged() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.setAll(uniqueLoanList);
+        assertEquals(Collections.singletonList(ALICE), uniqueLoanList.asUnmodifiableObservableList());
+        assertTrue(uniqueLoanList.contains(ALICE));
+    }
+
     @Test
     public void setNullListThrowsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -176,9 +334,264 @@ public class UniqueLoanListTest {
         uniqueLoanList.setAll(listWithDuplicateLoans);
     }
 
+    @Test
+    public void getLoanByIdLoanInListReturnsLoan() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.add(BOB);
+        assertEquals(Optional.of(ALICE), uniqueLoanList.getLoanById(ALICE.getLoanId()));
+        assertEquals(Optional.of(BOB), uniqueLoanList.getLoanById(BOB.getLoanId()));
+    }
+
+    @Test
+    public void getLoanByIdLoanNotInListReturnsEmpty() {
+        uniqueLoanList.add(ALICE);
+        assertEquals(Optional.empty(), uniqueLoanList.getLoanById(BOB.getLoanId()));
+    }
+
+    @Test
+    public void getLoanByIdAfterMutationsReturnsCurrentLoan() {
+        uniqueLoanList.add(ALICE);
+        Loan editedAlice = new LoanBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniqueLoanList.set(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniqueLoanList.getLoanById(ALICE.getLoanId()));
+
+        uniqueLoanList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniqueLoanList.getLoanById(ALICE.getLoanId()));
+
+        uniqueLoanList.setAll(Arrays.asList(ALICE, BOB));
+        assertEquals(Optional.of(ALICE), uniqueLoanList.getLoanById(ALICE.getLoanId()));
+    }
+
     @Test
     public void asUnmodifiableObservableListModifyListThrowsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniqueLoanList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void getLoansOfBikeSplitsOngoingAndReturnedLoans() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueLoanList.getOngoingLoansOfBike(BIKE1));
+        assertEquals(Collections.emptyList(), uniqueLoanList.getReturnedLoansOfBike(BIKE1));
+        assertEquals(Arrays.asList(DANIEL, FIONA), uniqueLoanList.getOngoingLoansOfBike(BIKE2));
+        assertEquals(Arrays.asList(ELLE, GEORGE), uniqueLoanList.getReturnedLoansOfBike(BIKE2));
+        assertEquals(Collections.emptyList(), uniqueLoanList.getOngoingLoansOfBike(BIKE3));
+    }
+
+    @Test
+    public void getLoansOfBikeAfterMutationsReturnsCurrentLoans() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.add(DANIEL);
+
+        // returning a loan moves it from the ongoing loans to the returned loans
+        Loan returnedAlice = new LoanBuilder(ALICE).withLoanStatus("RETURNED").build();
+        uniqueLoanList.set(ALICE, returnedAlice);
+        assertEquals(Collections.emptyList(), uniqueLoanList.getOngoingLoansOfBike(BIKE1));
+        assertEquals(Arrays.asList(returnedAlice), uniqueLoanList.getReturnedLoansOfBike(BIKE1));
+
+        uniqueLoanList.remove(returnedAlice);
+        assertEquals(Collections.emptyList(), uniqueLoanList.getReturnedLoansOfBike(BIKE1));
+
+        uniqueLoanList.setAll(Arrays.asList(ALICE));
+        assertEquals(Arrays.asList(ALICE), uniqueLoanList.getOngoingLoansOfBike(BIKE1));
+        assertEquals(Collections.emptyList(), uniqueLoanList.getOngoingLoansOfBike(BIKE2));
+    }
+
+    @Test
+    public void getOngoingLoansOfBikeModifyListThrowsUnsupportedOperationException() {
+        uniqueLoanList.add(ALICE);
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueLoanList.getOngoingLoansOfBike(BIKE1).remove(0);
+    }
+
+    @Test
+    public void getLoansOfCustomerAfterMutationsReturnsCurrentLoans() {
+        Loan anotherLoanOfAlice = new LoanBuilder(ELLE).withLoanId("100").withNric(ALICE.getNric().nric).build();
+        uniqueLoanList.setAll(getTypicalLoans());
+        uniqueLoanList.add(anotherLoanOfAlice);
+        assertEquals(Arrays.asList(ALICE, anotherLoanOfAlice), uniqueLoanList.getLoansOfCustomer(ALICE.getNric()));
+        assertEquals(Arrays.asList(ELLE), uniqueLoanList.getLoansOfCustomer(ELLE.getNric()));
+
+        // changing the NRIC of a loan moves it to the other customer
+        Loan editedAlice = new LoanBuilder(ALICE).withNric(ELLE.getNric().nric).build();
+        uniqueLoanList.set(ALICE, editedAlice);
+        assertEquals(Arrays.asList(anotherLoanOfAlice), uniqueLoanList.getLoansOfCustomer(ALICE.getNric()));
+        assertEquals(Arrays.asList(ELLE, editedAlice), uniqueLoanList.getLoansOfCustomer(ELLE.getNric()));
+
+        uniqueLoanList.remove(anotherLoanOfAlice);
+        assertEquals(Collections.emptyList(), uniqueLoanList.getLoansOfCustomer(ALICE.getNric()));
+    }
+
+    @Test
+    public void getLoansStartedBetweenReturnsLoansSortedByStartTime() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        assertEquals(Arrays.asList(ELLE, GEORGE, BENSON), uniqueLoanList.getLoansStartedBetween(
+                LoanTime.startOfDayLoanTime("2010-01-01"), LoanTime.endOfDayLoanTime("2017-12-31")));
+
+        // range bounds are exclusive
+        assertEquals(Collections.emptyList(), uniqueLoanList.getLoansStartedBetween(
+                new LoanTime("2010-12-30 10:30"), new LoanTime("2010-12-30 10:30")));
+
+        // reversed range -> no loans
+        assertEquals(Collections.emptyList(), uniqueLoanList.getLoansStartedBetween(
+                LoanTime.endOfDayLoanTime("2017-12-31"), LoanTime.startOfDayLoanTime("2010-01-01")));
+    }
+
+    @Test
+    public void getLoansEndedBetweenOnlyReturnsReturnedLoans() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        LoanTime startTime = LoanTime.startOfDayLoanTime("2000-01-01");
+        LoanTime endTime = LoanTime.endOfDayLoanTime("9999-12-31");
+        assertEquals(Arrays.asList(ELLE, GEORGE), uniqueLoanList.getLoansEndedBetween(startTime, endTime));
+
+        // returning a loan adds it to the loans which have ended
+        Loan returnedBenson = new LoanBuilder(BENSON).withLoanEndTime("2017-10-12 08:00")
+                .withLoanStatus("RETURNED").build();
+        uniqueLoanList.set(BENSON, returnedBenson);
+        assertEquals(Arrays.asList(ELLE, GEORGE, returnedBenson),
+                uniqueLoanList.getLoansEndedBetween(startTime, endTime));
+
+        uniqueLoanList.remove(GEORGE);
+        assertEquals(Arrays.asList(ELLE, returnedBenson), uniqueLoanList.getLoansEndedBetween(startTime, endTime));
+    }
+
+    @Test
+    public void getLoansWithNameKeywordsReturnsUnionOfMatches() {
+        uniqueLoanList.setAll(getTypicalLoans());
+
+        // matching is case insensitive, and each loan is only returned once
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA),
+                uniqueLoanList.getLoansWithNameKeywords(Arrays.asList("kurz", "ELLE", "Kunz", "Carl")));
+
+        // only full words match
+        assertEquals(Collections.emptyList(), uniqueLoanList.getLoansWithNameKeywords(Arrays.asList("Kur")));
+
+        // blank keywords match nothing
+        assertEquals(Collections.emptyList(), uniqueLoanList.getLoansWithNameKeywords(Arrays.asList("", " ")));
+    }
+
+    @Test
+    public void getLoansWithNameKeywordsAfterMutationsReturnsCurrentLoans() {
+        uniqueLoanList.add(ALICE);
+        Loan renamedAlice = new LoanBuilder(ALICE).withName("Alice Tan Alice").build();
+        uniqueLoanList.set(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(renamedAlice), uniqueLoanList.getLoansWithNameKeywords(Arrays.asList("tan")));
+        assertEquals(Collections.emptyList(), uniqueLoanList.getLoansWithNameKeywords(Arrays.asList("Pauline")));
+
+        uniqueLoanList.remove(renamedAlice);
+        assertEquals(Collections.emptyList(), uniqueLoanList.getLoansWithNameKeywords(Arrays.asList("alice")));
+    }
+
+    @Test
+    public void statusPartitionsAfterMutationsContainCurrentLoans() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, FIONA), uniqueLoanList.asUnmodifiableOngoingLoanList());
+        assertEquals(Arrays.asList(ELLE, GEORGE), uniqueLoanList.asUnmodifiableReturnedLoanList());
+
+        // returning a loan moves it to the end of the returned loans
+        Loan returnedAlice = new LoanBuilder(ALICE).withLoanStatus("RETURNED").build();
+        uniqueLoanList.set(ALICE, returnedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, FIONA), uniqueLoanList.asUnmodifiableOngoingLoanList());
+        assertEquals(Arrays.asList(ELLE, GEORGE, returnedAlice), uniqueLoanList.asUnmodifiableReturnedLoanList());
+
+        uniqueLoanList.remove(ELLE);
+        assertEquals(Arrays.asList(GEORGE, returnedAlice), uniqueLoanList.asUnmodifiableReturnedLoanList());
+
+        uniqueLoanList.add(BOB);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, FIONA, BOB), uniqueLoanList.asUnmodifiableOngoingLoanList());
+    }
+
+    @Test
+    public void statusPartitionsAfterLoansShifted_removeCorrectLoans() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        Loan editedCarl = new LoanBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+
+        uniqueLoanList.remove(BENSON);
+        uniqueLoanList.set(CARL, editedCarl);
+        uniqueLoanList.remove(DANIEL);
+        assertEquals(Arrays.asList(ALICE, FIONA, editedCarl), uniqueLoanList.asUnmodifiableOngoingLoanList());
+
+        uniqueLoanList.remove(editedCarl);
+        uniqueLoanList.add(BOB);
+        uniqueLoanList.remove(ALICE);
+        assertEquals(Arrays.asList(FIONA, BOB), uniqueLoanList.asUnmodifiableOngoingLoanList());
+        assertEquals(Arrays.asList(ELLE, GEORGE), uniqueLoanList.asUnmodifiableReturnedLoanList());
+    }
+
+    @Test
+    public void statusPartitionsSetAllNotifiesListenersOnce() {
+        uniqueLoanList.add(ALICE);
+        ObservableList<Loan> ongoingLoans = uniqueLoanList.asUnmodifiableOngoingLoanList();
+        List<ListChangeListener.Change<? extends Loan>> changes = new ArrayList<>();
+        ongoingLoans.addListener((ListChangeListener<Loan>) changes::add);
+
+        uniqueLoanList.setAll(getTypicalLoans());
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, FIONA), ongoingLoans);
+    }
+
+    @Test
+    public void getSummaryAfterMutationsMatchesSummaryOfCurrentLoans() {
+        assertEquals(new Summary(), uniqueLoanList.getSummary());
+
+        uniqueLoanList.setAll(getTypicalLoans());
+        assertEquals(summarize(getTypicalLoans()), uniqueLoanList.getSummary());
+
+        Loan returnedAlice = new LoanBuilder(ALICE).withLoanStatus("RETURNED").build();
+        uniqueLoanList.set(ALICE, returnedAlice);
+        uniqueLoanList.remove(ELLE);
+        uniqueLoanList.add(BOB);
+        assertEquals(summarize(uniqueLoanList.asUnmodifiableObservableList()), uniqueLoanList.getSummary());
+        assertEquals(5, uniqueLoanList.getSummary().getNumLoansInProgress());
+
+        uniqueLoanList.setAll(Collections.emptyList());
+        assertEquals(new Summary(), uniqueLoanList.getSummary());
+    }
+
+    @Test
+    public void getSummaryModifyReturnedSummaryListUnchanged() {
+        uniqueLoanList.add(ALICE);
+        uniqueLoanList.getSummary().addLoan(BOB);
+        assertEquals(summarize(Collections.singletonList(ALICE)), uniqueLoanList.getSummary());
+    }
+
+    @Test
+    public void asUnmodifiableOngoingLoanListModifyListThrowsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueLoanList.asUnmodifiableOngoingLoanList().add(ALICE);
+    }
+
+    @Test
+    public void asPersistentListAfterEachChangeMatchesListAndEarlierSnapshotsUnchanged() {
+        uniqueLoanList.setAll(getTypicalLoans());
+        List<Loan> typicalLoans = new ArrayList<>(uniqueLoanList.asUnmodifiableObservableList());
+        PersistentList<Loan> typicalSnapshot = uniqueLoanList.asPersistentList();
+        assertEquals(typicalLoans, typicalSnapshot);
+
+        uniqueLoanList.add(AMY);
+        assertEquals(uniqueLoanList.asUnmodifiableObservableList(), uniqueLoanList.asPersistentList());
+        uniqueLoanList.set(BENSON, new LoanBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        assertEquals(uniqueLoanList.asUnmodifiableObservableList(), uniqueLoanList.asPersistentList());
+        uniqueLoanList.setEach(Arrays.asList(ALICE, CARL), Arrays.asList(
+                new LoanBuilder(ALICE).withBike(VALID_NAME_BIKE3).build(),
+                new LoanBuilder(CARL).withBike(VALID_NAME_BIKE3).build()));
+        assertEquals(uniqueLoanList.asUnmodifiableObservableList(), uniqueLoanList.asPersistentList());
+        uniqueLoanList.remove(DANIEL);
+        assertEquals(uniqueLoanList.asUnmodifiableObservableList(), uniqueLoanList.asPersistentList());
+        uniqueLoanList.replaceRange(1, 4, Arrays.asList(BOB, DANIEL));
+        assertEquals(uniqueLoanList.asUnmodifiableObservableList(), uniqueLoanList.asPersistentList());
+        uniqueLoanList.replaceRange(0, 1, Collections.singletonList(new LoanBuilder(ALICE).build()));
+        assertEquals(uniqueLoanList.asUnmodifiableObservableList(), uniqueLoanList.asPersistentList());
+
+        assertEquals(typicalLoans, typicalSnapshot);
+    }
+
+    /**
+     * Returns a summary of {@code loans}, computed from scratch.
+     */
+    private Summary summarize(List<Loan> loans) {
+        Summary summary = new Summary();
+        loans.forEach(summary::addLoan);
+        return summary;
+    }
 }
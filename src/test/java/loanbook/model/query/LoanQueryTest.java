@@ -0,0 +1,147 @@
+package loanbook.model.query;
+
+import static loanbook.logic.commands.CommandTestUtil.VALID_NAME_BIKE2;
+import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
+import static loanbook.testutil.TypicalLoans.ALICE;
+import static loanbook.testutil.TypicalLoans.ELLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import loanbook.model.Model;
+import loanbook.model.ModelManager;
+import loanbook.model.UserPrefs;
+import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanStatus;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Name;
+import loanbook.model.loan.NameContainsKeywordsPredicate;
+import loanbook.model.loan.Nric;
+import loanbook.model.query.TimeRangeQuery.TimeOfLoan;
+import loanbook.model.tag.Tag;
+import loanbook.testutil.LoanBuilder;
+
+public class LoanQueryTest {
+
+    private static final LoanTime START_OF_2010 = LoanTime.startOfDayLoanTime("2010-01-01");
+    private static final LoanTime END_OF_2017 = LoanTime.endOfDayLoanTime("2017-12-31");
+
+    private final Model model = new ModelManager(getTypicalLoanBook(), new UserPrefs());
+
+    @Test
+    public void test_eachQuery_matchesLoansWithField() {
+        assertTrue(new NameQuery(new NameContainsKeywordsPredicate(Arrays.asList("pauline", "bob"))).test(ALICE));
+        assertTrue(new CustomerQuery(ALICE.getNric()).test(ALICE));
+        assertTrue(new BikeQuery(ALICE.getBike().getName()).test(ALICE));
+        assertTrue(new StatusQuery(LoanStatus.ONGOING).test(ALICE));
+        assertTrue(new TagQuery(new Tag("friends")).test(ALICE));
+        assertTrue(new TimeRangeQuery(TimeOfLoan.ENDED, START_OF_2010, END_OF_2017).test(ELLE));
+
+        assertFalse(new NameQuery(new NameContainsKeywordsPredicate(Arrays.asList("elle"))).test(ALICE));
+        assertFalse(new CustomerQuery(ELLE.getNric()).test(ALICE));
+        assertFalse(new BikeQuery(new Name(VALID_NAME_BIKE2)).test(ALICE));
+        assertFalse(new StatusQuery(LoanStatus.RETURNED).test(ALICE));
+        assertFalse(new TagQuery(new Tag("owesMoney")).test(ALICE));
+
+        // ongoing loans have no end time in range
+        assertFalse(new TimeRangeQuery(TimeOfLoan.ENDED, START_OF_2010, END_OF_2017).test(ALICE));
+
+        // deleted loans are not loans of any bike
+        Loan deletedLoan = new LoanBuilder(ALICE).withLoanStatus("DELETED").build();
+        assertFalse(new BikeQuery(ALICE.getBike().getName()).test(deletedLoan));
+    }
+
+    @Test
+    public void lookUp_eachIndexedQuery_returnsExactlyMatchingLoans() {
+        List<LoanQuery> indexedQueries = Arrays.asList(
+                new NameQuery(new NameContainsKeywordsPredicate(Arrays.asList("meier", "Kurz"))),
+                new CustomerQuery(ELLE.getNric()),
+                new CustomerQuery(new Nric("S0000001I")),
+                new BikeQuery(new Name(VALID_NAME_BIKE2)),
+                new StatusQuery(LoanStatus.ONGOING),
+                new StatusQuery(LoanStatus.RETURNED),
+                new TimeRangeQuery(TimeOfLoan.STARTED, START_OF_2010, END_OF_2017),
+                new TimeRangeQuery(TimeOfLoan.ENDED, START_OF_2010, END_OF_2017));
+
+        for (LoanQuery query : indexedQueries) {
+            assertTrue(query.getIndexName().isPresent());
+            List<Loan> matchingLoans = model.getLoanBook().getLoanList().stream()
+                    .filter(query)
+                    .collect(Collectors.toList());
+            List<Loan> lookedUpLoans = query.lookUp(model).get();
+            assertEquals(query.toString(), matchingLoans.size(), lookedUpLoans.size());
+            assertTrue(query.toString(), matchingLoans.containsAll(lookedUpLoans));
+            // the estimate is never less than the number of loans looked up
+            assertTrue(query.toString(), query.estimateCount(model).getAsInt() >= lookedUpLoans.size());
+        }
+    }
+
+    @Test
+    public void estimateCount_nameKeywords_countsEachDistinctKeywordOnce() {
+        NameQuery query = new NameQuery(new NameContainsKeywordsPredicate(Arrays.asList("meier", "MEIER", "Kurz")));
+        assertEquals(query.lookUp(model).get().size(), query.estimateCount(model).getAsInt());
+    }
+
+    @Test
+    public void getIndexName_unindexedQueries_returnsEmpty() {
+        List<LoanQuery> unindexedQueries = Arrays.asList(
+                new TagQuery(new Tag("friends")), new StatusQuery(LoanStatus.DELETED), LoanQuery.all());
+
+        for (LoanQuery query : unindexedQueries) {
+            assertFalse(query.toString(), query.getIndexName().isPresent());
+            assertFalse(query.toString(), query.estimateCount(model).isPresent());
+            assertFalse(query.toString(), query.lookUp(model).isPresent());
+        }
+    }
+
+    @Test
+    public void and_nestedQueries_flattensConjuncts() {
+        LoanQuery statusQuery = new StatusQuery(LoanStatus.ONGOING);
+        LoanQuery tagQuery = new TagQuery(new Tag("friends"));
+        LoanQuery customerQuery = new CustomerQuery(ALICE.getNric());
+
+        LoanQuery query = statusQuery.and(tagQuery.and(customerQuery));
+        assertEquals(Arrays.asList(statusQuery, tagQuery, customerQuery), query.getConjuncts());
+        assertEquals(statusQuery.and(tagQuery).and(customerQuery), query);
+        assertEquals("status is Ongoing and tagged [friends] and NRIC is " + ALICE.getNric(), query.toString());
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(ELLE));
+
+        // combining a single query gives the query itself
+        assertEquals(statusQuery, LoanQuery.allOf(Collections.singletonList(statusQuery)));
+        assertEquals(statusQuery, LoanQuery.all().and(statusQuery));
+    }
+
+    @Test
+    public void all_anyLoan_returnsTrue() {
+        assertTrue(LoanQuery.all().test(ALICE));
+        assertTrue(LoanQuery.all().getConjuncts().isEmpty());
+        assertEquals("all loans", LoanQuery.all().toString());
+    }
+
+    @Test
+    public void equals() {
+        LoanQuery tagQuery = new TagQuery(new Tag("friends"));
+
+        // same values -> returns true
+        assertTrue(tagQuery.equals(new TagQuery(new Tag("friends"))));
+        assertTrue(new TimeRangeQuery(TimeOfLoan.STARTED, START_OF_2010, END_OF_2017)
+                .equals(new TimeRangeQuery(TimeOfLoan.STARTED, START_OF_2010, END_OF_2017)));
+
+        // different values -> returns false
+        assertFalse(tagQuery.equals(new TagQuery(new Tag("owesMoney"))));
+        assertFalse(new TimeRangeQuery(TimeOfLoan.STARTED, START_OF_2010, END_OF_2017)
+                .equals(new TimeRangeQuery(TimeOfLoan.ENDED, START_OF_2010, END_OF_2017)));
+
+        // different types -> returns false
+        assertFalse(tagQuery.equals(new StatusQuery(LoanStatus.ONGOING)));
+        assertFalse(tagQuery.equals(null));
+    }
+}
@@ -1,6 +1,7 @@
 package loanbook.storage;
 
 import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
+import static loanbook.testutil.TypicalLoans.HOON;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -8,6 +9,10 @@ import static org.junit.Assert.assertTrue;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -80,9 +85,52 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlLoanBookStorageExceptionThrowingStub(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(new LoanBook()));
+        storage.flushLoanBook();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleLoanBookChangedEvent_errorThrown_eventRaised() {
+        Storage storage = new StorageManager(new XmlLoanBookStorageErrorThrowingStub(Paths.get("dummy")),
+                                             new JsonUserPrefsStorage(Paths.get("dummy")));
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(new LoanBook()));
+        storage.flushLoanBook();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void handleLoanBookChangedEvent_burstOfChanges_savesLatestChangeOnce() {
+        XmlLoanBookStorageRecordingStub loanBookStorage = new XmlLoanBookStorageRecordingStub(Paths.get("dummy"));
+        Storage storage = new StorageManager(loanBookStorage, new JsonUserPrefsStorage(Paths.get("dummy")),
+                TimeUnit.HOURS.toMillis(1));
+
+        LoanBook loanBook = getTypicalLoanBook();
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        loanBook.addLoan(HOON);
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(loanBook));
+        LoanBook expectedLoanBook = new LoanBook(loanBook);
+        loanBook.removeLoan(HOON); // changes which are not raised as events are not saved
+        storage.flushLoanBook();
+
+        assertEquals(1, loanBookStorage.savedLoanBooks.size());
+        assertEquals(expectedLoanBook, new LoanBook(loanBookStorage.savedLoanBooks.get(0)));
+
+        // there are no changes left to save
+        storage.flushLoanBook();
+        assertEquals(1, loanBookStorage.savedLoanBooks.size());
+    }
+
+    @Test
+    public void handleLoanBookChangedEvent_saveDelayPassed_saved() throws Exception {
+        XmlLoanBookStorageRecordingStub loanBookStorage = new XmlLoanBookStorageRecordingStub(Paths.get("dummy"));
+        Storage storage = new StorageManager(loanBookStorage, new JsonUserPrefsStorage(Paths.get("dummy")), 0);
+
+        storage.handleLoanBookChangedEvent(new LoanBookChangedEvent(getTypicalLoanBook()));
+
+        assertTrue(loanBookStorage.saved.await(10, TimeUnit.SECONDS));
+        assertEquals(getTypicalLoanBook(), new LoanBook(loanBookStorage.savedLoanBooks.get(0)));
+    }
+
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -99,5 +147,39 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A stub which throws an error when saving, like {@code XmlStreamFileStorage} does if JAXB fails.
+     */
+    class XmlLoanBookStorageErrorThrowingStub extends XmlLoanBookStorage {
+
+        public XmlLoanBookStorageErrorThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) {
+            throw new AssertionError("dummy error");
+        }
+    }
+
+    /**
+     * A Stub class to record the loan books which are saved instead of saving them
+     */
+    class XmlLoanBookStorageRecordingStub extends XmlLoanBookStorage {
+
+        final List<ReadOnlyLoanBook> savedLoanBooks = new ArrayList<>();
+        final CountDownLatch saved = new CountDownLatch(1);
+
+        public XmlLoanBookStorageRecordingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveLoanBook(ReadOnlyLoanBook loanBook, Path filePath) {
+            savedLoanBooks.add(loanBook);
+            saved.countDown();
+        }
+    }
+
 
 }
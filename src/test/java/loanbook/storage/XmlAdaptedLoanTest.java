@@ -249,6 +249,24 @@ public class XmlAdaptedLoanTest {
         Assert.assertThrows(IllegalValueException.class, expectedMessage, loan::toModelType);
     }
 
+    @Test
+    public void toModelTypeLegacyLoanRate_returnsLoan() throws Exception {
+        // Earlier versions saved rates of $10,000,000 and above in scientific notation.
+        XmlAdaptedLoan loan =
+                new XmlAdaptedLoan(VALID_LOANID,
+                        VALID_NAME,
+                        VALID_NRIC,
+                        VALID_PHONE,
+                        VALID_EMAIL,
+                        VALID_BIKE,
+                        "1.25E7",
+                        VALID_LOANTIMEA,
+                        VALID_LOANTIMEB,
+                        VALID_LOANSTATUS,
+                        VALID_TAGS);
+        assertEquals(new LoanRate("12500000"), loan.toModelType().getLoanRate());
+    }
+
     @Test
     public void toModelTypeNullLoanRateThrowsIllegalValueException() {
         XmlAdaptedLoan loan =
@@ -20,6 +20,7 @@ import loanbook.commons.exceptions.DataConversionException;
 import loanbook.model.LoanBook;
 import loanbook.model.ReadOnlyLoanBook;
 import loanbook.model.loan.LoanIdManager;
+import loanbook.model.loan.Summary;
 
 public class XmlLoanBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlLoanBookStorageTest");
@@ -74,6 +75,21 @@ public class XmlLoanBookStorageTest {
         readLoanBook("invalidAndValidLoanLoanBook.xml");
     }
 
+    @Test
+    public void readLoanBook_returnedAndDeletedLoansWithoutEndTime_loadedWithoutRevenue() throws Exception {
+        LoanBook loanBook = new LoanBook(readLoanBook("noEndTimeLoanBook.xml").get());
+        assertEquals(2, loanBook.getLoanList().size());
+
+        Summary summary = loanBook.getLoanSummary();
+        assertEquals(2, summary.getNumLoans());
+        assertEquals(0, summary.getNumLoansInProgress());
+        assertEquals(0, summary.getTotalRevenueCents());
+        assertEquals(summary, new Summary(loanBook.getLoanColumns()));
+
+        loanBook.removeLoan(loanBook.getLoanList().get(0));
+        assertEquals(1, loanBook.getLoanSummary().getNumLoans());
+    }
+
     @Test
     public void readAndSaveLoanBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.getRoot().toPath().resolve("TempLoanBook.xml");
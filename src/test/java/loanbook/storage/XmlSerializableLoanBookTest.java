@@ -1,6 +1,7 @@
 package loanbook.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -12,6 +13,7 @@ import org.junit.rules.ExpectedException;
 import loanbook.commons.exceptions.IllegalValueException;
 import loanbook.commons.util.XmlUtil;
 import loanbook.model.LoanBook;
+import loanbook.model.loan.Loan;
 import loanbook.testutil.TypicalLoanBook;
 
 public class XmlSerializableLoanBookTest {
@@ -41,6 +43,16 @@ public class XmlSerializableLoanBookTest {
         assertEquals(loanBookFromFile, typicalLoanBook);
     }
 
+    @Test
+    public void toModelType_typicalLoansFile_loansShareBikesOfBikeList() throws Exception {
+        XmlSerializableLoanBook dataFromFile = XmlUtil.getDataFromFile(TYPICAL_LOANBOOK_FILE,
+            XmlSerializableLoanBook.class);
+        LoanBook loanBookFromFile = dataFromFile.toModelType();
+        for (Loan loan : loanBookFromFile.getLoanList()) {
+            assertSame(loanBookFromFile.getBike(loan.getBike().getName().value).get(), loan.getBike());
+        }
+    }
+
     @Test
     public void toModelType_invalidBikeFile_throwsIllegalValueException() throws Exception {
         XmlSerializableLoanBook dataFromFile = XmlUtil.getDataFromFile(INVALID_BIKE_FILE,
@@ -0,0 +1,133 @@
+package loanbook.storage;
+
+import static loanbook.testutil.TypicalLoanBook.getTypicalLoanBook;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import loanbook.commons.exceptions.DataConversionException;
+import loanbook.commons.exceptions.IllegalValueException;
+import loanbook.model.LoanBook;
+import loanbook.model.ReadOnlyLoanBook;
+import loanbook.model.loan.Loan;
+
+public class XmlStreamFileStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableLoanBookTest");
+
+    private static final Path DUPLICATE_BIKE_FILE = TEST_DATA_FOLDER.resolve("duplicateBikeLoanBook.xml");
+    private static final Path DUPLICATE_LOAN_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateLoanIdLoanBook.xml");
+    private static final Path ILLEGAL_STATE_ID_MANAGER_FILE =
+            TEST_DATA_FOLDER.resolve("illegalStateLoanIdManagerLoanBook.xml");
+    private static final Path INVALID_LOAN_FILE = TEST_DATA_FOLDER.resolve("invalidLoanLoanBook.xml");
+    private static final Path TYPICAL_LOANBOOK_FILE = TEST_DATA_FOLDER.resolve("typicalLoanBook.xml");
+    private static final Path NOT_XML_FILE = Paths.get("src", "test", "data", "XmlLoanBookStorageTest",
+            "NotXmlFormatLoanBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveLoanBook_typicalLoanBook_sameBytesAsWholeLoanBook() throws Exception {
+        assertSameBytesAsWholeLoanBook(getTypicalLoanBook());
+    }
+
+    @Test
+    public void saveLoanBook_emptyLoanBook_sameBytesAsWholeLoanBook() throws Exception {
+        assertSameBytesAsWholeLoanBook(new LoanBook());
+    }
+
+    @Test
+    public void loadLoanBook_typicalLoansFile_success() throws Exception {
+        LoanBook loanBookFromFile = XmlStreamFileStorage.loadLoanBook(TYPICAL_LOANBOOK_FILE);
+        assertEquals(getTypicalLoanBook(), loanBookFromFile);
+        for (Loan loan : loanBookFromFile.getLoanList()) {
+            assertSame(loanBookFromFile.getBike(loan.getBike().getName().value).get(), loan.getBike());
+        }
+    }
+
+    @Test
+    public void loadLoanBook_loanBeforeItsBike_loanSharesBikeOfBikeList() throws Exception {
+        String typicalFile = new String(Files.readAllBytes(TYPICAL_LOANBOOK_FILE), StandardCharsets.UTF_8);
+        // Moves the bike list to just before the Loan ID Manager, after all the loans.
+        int bikesStart = typicalFile.indexOf("<bikes>");
+        int bikesEnd = typicalFile.indexOf("<loans>");
+        int managerStart = typicalFile.indexOf("<loanIdManager>");
+        String reorderedFile = typicalFile.substring(0, bikesStart) + typicalFile.substring(bikesEnd, managerStart)
+                + typicalFile.substring(bikesStart, bikesEnd) + typicalFile.substring(managerStart);
+        Path file = testFolder.getRoot().toPath().resolve("reordered.xml");
+        Files.write(file, reorderedFile.getBytes(StandardCharsets.UTF_8));
+
+        LoanBook loanBookFromFile = XmlStreamFileStorage.loadLoanBook(file);
+        assertEquals(getTypicalLoanBook(), loanBookFromFile);
+        for (Loan loan : loanBookFromFile.getLoanList()) {
+            assertSame(loanBookFromFile.getBike(loan.getBike().getName().value).get(), loan.getBike());
+        }
+    }
+
+    @Test
+    public void loadLoanBook_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlStreamFileStorage.loadLoanBook(TEST_DATA_FOLDER.resolve("NonExistentFile.xml"));
+    }
+
+    @Test
+    public void loadLoanBook_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamFileStorage.loadLoanBook(NOT_XML_FILE);
+    }
+
+    @Test
+    public void loadLoanBook_invalidLoanFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlStreamFileStorage.loadLoanBook(INVALID_LOAN_FILE);
+    }
+
+    @Test
+    public void loadLoanBook_duplicateBikes_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableLoanBook.MESSAGE_DUPLICATE_BIKE);
+        XmlStreamFileStorage.loadLoanBook(DUPLICATE_BIKE_FILE);
+    }
+
+    @Test
+    public void loadLoanBook_duplicateLoanId_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableLoanBook.MESSAGE_DUPLICATE_LOAN_ID);
+        XmlStreamFileStorage.loadLoanBook(DUPLICATE_LOAN_ID_FILE);
+    }
+
+    @Test
+    public void loadLoanBook_illegalStateLoanIdManager_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableLoanBook.MESSAGE_ILLEGAL_LOAN_ID_MANAGER);
+        XmlStreamFileStorage.loadLoanBook(ILLEGAL_STATE_ID_MANAGER_FILE);
+    }
+
+    /**
+     * Asserts that saving {@code loanBook} one record at a time writes the same bytes as saving it as a whole
+     * {@code XmlSerializableLoanBook}.
+     */
+    private void assertSameBytesAsWholeLoanBook(ReadOnlyLoanBook loanBook) throws Exception {
+        Path streamedFile = testFolder.newFile("streamed.xml").toPath();
+        Path wholeFile = testFolder.newFile("whole.xml").toPath();
+
+        XmlStreamFileStorage.saveLoanBook(streamedFile, loanBook);
+        XmlFileStorage.saveDataToFile(wholeFile, new XmlSerializableLoanBook(loanBook));
+
+        assertArrayEquals(Files.readAllBytes(wholeFile), Files.readAllBytes(streamedFile));
+    }
+}
@@ -1,8 +1,10 @@
 package loanbook.testutil;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import loanbook.model.Model;
@@ -10,7 +12,13 @@ import loanbook.model.Password;
 import loanbook.model.ReadOnlyLoanBook;
 import loanbook.model.bike.Bike;
 import loanbook.model.loan.Loan;
+import loanbook.model.loan.LoanColumns;
 import loanbook.model.loan.LoanId;
+import loanbook.model.loan.LoanTime;
+import loanbook.model.loan.Nric;
+import loanbook.model.loan.Summary;
+import loanbook.model.query.LoanQuery;
+import loanbook.model.query.QueryPlan;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -36,6 +44,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Bike> getBikesWithNamePrefix(String prefix) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addBike(Bike bike) {
         throw new AssertionError("This method should not be called.");
@@ -111,6 +124,61 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Loan> getOngoingLoansOfBike(Bike bike) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Loan> getReturnedLoansOfBike(Bike bike) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Loan> getLoansOfCustomer(Nric nric) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Loan> getLoansWithNameKeywords(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Loan> getLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Loan> getLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countLoansWithNameKeywords(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countLoansStartedBetween(LoanTime startTime, LoanTime endTime) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countLoansEndedBetween(LoanTime startTime, LoanTime endTime) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Summary getLoanSummary() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public LoanColumns getLoanColumns() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void resetLoans() {
         throw new AssertionError("This method should not be called.");
@@ -121,11 +189,36 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ObservableList<Loan> getOngoingLoanList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Loan> getReturnedLoanList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredLoanList(Predicate<Loan> predicate) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredLoanList(LoanQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredLoanList(QueryPlan plan) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryPlan planLoanQuery(LoanQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean canUndoLoanBook() {
         throw new AssertionError("This method should not be called.");
@@ -151,6 +244,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void runTransaction(Runnable mutations) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public <T> T runTransaction(Supplier<T> mutations) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public String getPass() {
         throw new AssertionError("This method should not be called.");
@@ -40,8 +40,8 @@ public class TypicalLoanBook {
             lb.addBike(bike);
         }
 
-        lb.addLoan(new LoanBuilder().build());
-        lb.addLoan(new LoanBuilder().withName("Ash").withLoanStatus("RETURNED").build());
+        lb.addLoan(new LoanBuilder().withLoanId("0").build());
+        lb.addLoan(new LoanBuilder().withLoanId("1").withName("Ash").withLoanStatus("RETURNED").build());
 
         int lastUsedId = lb.getLoanList().size() + LoanId.MINIMUM_ID - 1;
         LoanId lastUsedLoanId = LoanId.isValidLoanId(lastUsedId) ? LoanId.fromInt(lastUsedId) : null;
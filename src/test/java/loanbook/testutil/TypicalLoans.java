@@ -143,7 +143,7 @@ public class TypicalLoans {
             .build();
 
     // Manually added - Loan's details found in {@code CommandTestUtil}
-    public static final Loan AMY = new LoanBuilder().withName(VALID_NAME_AMY)
+    public static final Loan AMY = new LoanBuilder().withLoanId("12").withName(VALID_NAME_AMY)
             .withNric(VALID_NRIC_AMY)
             .withPhone(VALID_PHONE_AMY)
             .withEmail(VALID_EMAIL_AMY)
@@ -153,7 +153,7 @@ public class TypicalLoans {
             .withLoanStartTime(VALID_LOANSTARTTIME_AMY)
             .withLoanEndTime(VALID_LOANENDTIME_AMY)
             .build();
-    public static final Loan BOB = new LoanBuilder().withName(VALID_NAME_BOB)
+    public static final Loan BOB = new LoanBuilder().withLoanId("13").withName(VALID_NAME_BOB)
             .withNric(VALID_NRIC_BOB)
             .withPhone(VALID_PHONE_BOB)
             .withEmail(VALID_EMAIL_BOB)